@@ -0,0 +1,68 @@
+package io.github.PorkyRun.benchmarks;
+
+import com.badlogic.gdx.math.Rectangle;
+import io.github.PorkyRun.HitType;
+import io.github.PorkyRun.EntityStore;
+import io.github.PorkyRun.Simulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code checkCollisions()} against a growing field of obstacles that Porky never touches (the worst case), next
+ * to the linear scan it replaced. {@code ahead} puts every obstacle right of Porky, as the spawner does;
+ * {@code around} spreads them over the whole screen in a lane above Porky, so the sweep window is never empty.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    public int obstacles;
+
+    @Param({"ahead", "around"})
+    public String layout;
+
+    private Simulation simulation;
+
+    @Setup
+    public void setUp() {
+        simulation = new Simulation();
+        simulation.step();                                      // Place Porky's hitbox on the ground
+        for (int i = 0; i < obstacles; i++) {
+            if (layout.equals("ahead")) {
+                simulation.addObstacle(200 + i * 10f, 80);      // Starts right of Porky and stays there
+            } else {
+                simulation.addObstacle(-100 + 900f * i / obstacles, 300);   // Overlaps Porky in x only
+            }
+        }
+    }
+
+    @Benchmark
+    public HitType sweep() {
+        return simulation.checkCollisions();
+    }
+
+    @Benchmark
+    public boolean linear() {
+        Rectangle porky = simulation.getPorkyHitbox();
+        EntityStore all = simulation.getObstacles();
+        for (int i = 0; i < all.size(); i++) {
+            if (all.overlaps(i, porky)) return true;
+        }
+        return false;
+    }
+}
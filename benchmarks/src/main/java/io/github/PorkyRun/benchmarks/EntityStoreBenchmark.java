@@ -0,0 +1,62 @@
+package io.github.PorkyRun.benchmarks;
+
+import io.github.PorkyRun.EntityStore;
+import io.github.PorkyRun.Simulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EntityStore} at up to tens of thousands of live entities: one fixed-step scroll of all of them, and
+ * spawn/swap-remove churn of the whole set. Run with {@code -prof gc} to confirm neither allocates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityStoreBenchmark {
+    @Param({"16", "256", "10000", "50000"})
+    public int live;
+
+    private EntityStore store;
+
+    @Setup
+    public void setUp() {
+        store = new EntityStore(live);
+        fill();
+    }
+
+    private void fill() {
+        for (int i = 0; i < live; i++) {
+            store.add(800 + i % 800, 170 + i % 30, Simulation.OBSTACLE_WIDTH, 30 + i % 20, i % 3, 0);
+        }
+    }
+
+    @Benchmark
+    public float update() {
+        store.update(Simulation.FIXED_TIMESTEP);
+        return store.getX(0);
+    }
+
+    @Benchmark
+    public int churn() {
+        store.clear();
+        fill();
+        for (int i = store.size() - 1; i >= 0; i -= 2) {
+            store.remove(i);                                    // Every other entity, oldest last
+        }
+        return store.size();
+    }
+}
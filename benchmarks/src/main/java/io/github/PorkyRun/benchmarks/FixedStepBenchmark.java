@@ -0,0 +1,65 @@
+package io.github.PorkyRun.benchmarks;
+
+import io.github.PorkyRun.FixedStepScheduler;
+import io.github.PorkyRun.JumpPolicy;
+import io.github.PorkyRun.Simulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** The fixed-step update that {@code GameScreen.render()} runs: one tick, and one rendered frame's catch-up loop. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FixedStepBenchmark {
+    /** Refresh rate the rendered frame delta is derived from. */
+    @Param({"60", "144", "240"})
+    public int refreshRate;
+
+    private Simulation simulation;
+    private JumpPolicy policy;
+    private FixedStepScheduler scheduler;
+    private int tick;
+
+    @Setup
+    public void setUp() {
+        simulation = new Simulation();
+        policy = JumpPolicy.reactive(60, 0).create(0);
+        scheduler = new FixedStepScheduler(Simulation.FIXED_TIMESTEP, 5);
+    }
+
+    @Benchmark
+    public int tick() {
+        advance();
+        return simulation.getScore();
+    }
+
+    @Benchmark
+    public int frame() {
+        int steps = scheduler.advance(1f / refreshRate);
+        for (int i = 0; i < steps; i++) {
+            advance();
+        }
+        return simulation.getScore();
+    }
+
+    private void advance() {
+        if (simulation.isGameOver()) simulation.pressRestart();  // Keep the run alive across iterations
+        else if (policy.shouldJump(simulation, tick)) simulation.pressJump();
+        simulation.step();
+        tick++;
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.PorkyRun.benchmarks;
+
+import com.badlogic.gdx.graphics.Color;
+import io.github.PorkyRun.ParticleSystem;
+import io.github.PorkyRun.Simulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One fixed step of {@link ParticleSystem} held at a steady population: top the emitter back up to its cap, then
+ * integrate and retire. Drawing needs a GL context, so it is not covered here.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticleBenchmark {
+    @Param({"500", "5000"})
+    public int particles;
+
+    private ParticleSystem system;
+
+    @Setup
+    public void setUp() {
+        system = new ParticleSystem(
+            new ParticleSystem.Emitter(particles, 0.5f, 2, 30, 400, 0, 180, -900, 10, 6, Color.WHITE));
+        system.setSeed(1);
+    }
+
+    @Benchmark
+    public int step() {
+        system.emit(0, 100, 100, particles);                    // Capped, so only replaces what died
+        system.update(Simulation.FIXED_TIMESTEP);
+        return system.size();
+    }
+}
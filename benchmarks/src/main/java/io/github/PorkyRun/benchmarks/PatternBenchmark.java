@@ -0,0 +1,40 @@
+package io.github.PorkyRun.benchmarks;
+
+import io.github.PorkyRun.PatternGenerator;
+import io.github.PorkyRun.SimulationConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building one obstacle chunk, sampled so the tail shows too. The stream keeps going, so later
+ * iterations measure chunks at full difficulty, where retries are most likely.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatternBenchmark {
+    private PatternGenerator.Stream stream;
+
+    @Setup
+    public void setUp() {
+        stream = new PatternGenerator(new SimulationConfig()).stream(1);
+    }
+
+    @Benchmark
+    public PatternGenerator.Chunk chunk() {
+        return stream.next();
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.PorkyRun.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import io.github.PorkyRun.HudText;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Score text building as {@code GameScreen.drawScore()} does it every rendered frame: the old path concatenates and
+ * lays out a new string each frame, {@link HudText} only redoes either when the score changes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreTextBenchmark {
+    private int frame;
+    private BitmapFont font;
+    private GlyphLayout layout;
+    private HudText hudText;
+
+    @Setup
+    public void setUp() {
+        font = metricsOnlyFont();
+        layout = new GlyphLayout();
+        hudText = new HudText(font, "Score: ");
+    }
+
+    /** Glyph metrics only, which is all GlyphLayout reads; there is no GL context here for page textures. */
+    private static BitmapFont metricsOnlyFont() {
+        BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData();
+        BitmapFont font = new BitmapFont(data, Array.with(new TextureRegion()), true);
+        for (char c = ' '; c <= 'z'; c++) {
+            BitmapFont.Glyph glyph = new BitmapFont.Glyph();
+            glyph.id = c;
+            glyph.width = 24;
+            glyph.height = 32;
+            glyph.xadvance = 26;
+            data.setGlyph(c, glyph);
+        }
+        return font;
+    }
+
+    @Benchmark
+    public String concatenate() {
+        int score = frame++ / 180;                              // Score changes once every 180 frames
+        return "Score: " + score;
+    }
+
+    /** The old drawScore(): a new string and a fresh layout every frame. */
+    @Benchmark
+    public GlyphLayout concatenateAndLayout() {
+        int score = frame++ / 180;
+        layout.setText(font, "Score: " + score);
+        return layout;
+    }
+
+    /** The common case: the score has not changed since the last frame. */
+    @Benchmark
+    public HudText hudTextUnchanged() {
+        hudText.setValue(42);
+        return hudText;
+    }
+
+    /** The same score cadence as the old path, so one frame in 180 lays out again. */
+    @Benchmark
+    public HudText hudTextPlaying() {
+        hudText.setValue(frame++ / 180);
+        return hudText;
+    }
+
+    /** The worst case: a new value, new digits and a new layout every frame. */
+    @Benchmark
+    public HudText hudTextChanging() {
+        hudText.setValue(frame++);
+        return hudText;
+    }
+}
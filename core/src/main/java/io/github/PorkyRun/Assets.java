@@ -0,0 +1,166 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGeneratorLoader;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Shared, reference-counted assets for every screen, backed by one {@link AssetManager}. Screens {@link #acquire}
+ * the {@link Group} they need and {@link #release} it when disposed; an asset is only unloaded once nothing holds
+ * it, so switching screens never reloads anything. PNG decoding and font rasterisation run on the asset manager's
+ * loading thread, and {@link #update(int)} spends at most a time budget per frame on the GL uploads.
+ */
+public class Assets implements Disposable {
+    static final String FONT_FILE = "LuckiestGuy-Regular.ttf";
+    static final String FONT_NAME = "luckiest-guy";
+    static final String FONT_DIRECTORY = "fonts/";
+    private static final int SMALL_ATLAS_MAX_HEIGHT = 600;     // Back buffers up to this tall get the half-size atlas
+
+    // Every sprite lives in one atlas, packed by MyTexturePacker in a full-size and a half-size variant
+    public static final AssetDescriptor<TextureAtlas> PORKY_ATLAS = new AssetDescriptor<>("porky-atlas.atlas", TextureAtlas.class);
+    public static final AssetDescriptor<TextureAtlas> PORKY_ATLAS_SMALL =
+        new AssetDescriptor<>("porky-atlas" + MyTexturePacker.SMALL_SUFFIX + ".atlas", TextureAtlas.class);
+    public static final AssetDescriptor<Texture> MENU_BACKGROUND = new AssetDescriptor<>("background.png", Texture.class);
+    public static final AssetDescriptor<Texture> FARM_BACKGROUND = new AssetDescriptor<>("newBackground.png", Texture.class);
+    public static final AssetDescriptor<Texture> FOREST_BACKGROUND = new AssetDescriptor<>("forest.png", Texture.class);
+    public static final AssetDescriptor<Music> MENU_MUSIC = new AssetDescriptor<>("happy-farm.mp3", Music.class);
+
+    // Fonts are named after what they are baked from, so equal size and colour pairs share one font. The name is
+    // the baked BMFont FontBaker writes; without it, the font is generated from the TTF given in its parameters
+    private static final Array<AssetDescriptor<BitmapFont>> FONTS = new Array<>();
+    public static final AssetDescriptor<BitmapFont> TITLE_FONT = font(60, Color.PINK);
+    public static final AssetDescriptor<BitmapFont> MENU_FONT = font(40, Color.WHITE);
+    public static final AssetDescriptor<BitmapFont> HIGH_SCORE_FONT = font(22, Color.WHITE);
+    public static final AssetDescriptor<BitmapFont> GAME_OVER_FONT = font(80, Color.RED);
+    public static final AssetDescriptor<BitmapFont> RESTART_FONT = font(40, Color.YELLOW);
+    public static final AssetDescriptor<BitmapFont> SCORE_FONT = font(40, Color.ORANGE);
+
+    /** The asset sets screens hold references on. */
+    public enum Group {
+        MENU, GAME
+    }
+
+    private final AssetManager manager;
+    private final AssetDescriptor<TextureAtlas> atlas;
+    private final AssetDescriptor<?>[] menu;
+    private final AssetDescriptor<?>[] game;
+
+    public Assets() {
+        FileHandleResolver resolver = new InternalFileHandleResolver();
+        manager = new AssetManager(resolver);
+        manager.setLoader(FreeTypeFontGenerator.class, new FreeTypeFontGeneratorLoader(resolver));
+        manager.setLoader(BitmapFont.class, ".fnt", new AsyncFreeTypeFontLoader(resolver));
+
+        // Pick the atlas variant whose frames are closest to the size they are drawn at
+        atlas = Gdx.graphics.getBackBufferHeight() <= SMALL_ATLAS_MAX_HEIGHT ? PORKY_ATLAS_SMALL : PORKY_ATLAS;
+        menu = new AssetDescriptor<?>[] {
+            MENU_BACKGROUND, MENU_MUSIC, TITLE_FONT, MENU_FONT, HIGH_SCORE_FONT
+        };
+        game = new AssetDescriptor<?>[] {
+            atlas, FARM_BACKGROUND, FOREST_BACKGROUND, GAME_OVER_FONT, RESTART_FONT, SCORE_FONT
+        };
+    }
+
+    private static AssetDescriptor<BitmapFont> font(int size, Color color) {
+        AsyncFreeTypeFontLoader.Parameters parameters = new AsyncFreeTypeFontLoader.Parameters();
+        parameters.fontFileName = FONT_FILE;
+        parameters.fontParameters.size = size;
+        parameters.fontParameters.color = color;
+        String name = FONT_DIRECTORY + fontKey(parameters.fontParameters) + ".fnt";
+        for (AssetDescriptor<BitmapFont> existing : FONTS) {
+            if (existing.fileName.equals(name)) return existing;
+        }
+        AssetDescriptor<BitmapFont> descriptor = new AssetDescriptor<>(name, BitmapFont.class, parameters);
+        FONTS.add(descriptor);
+        return descriptor;
+    }
+
+    /** Baked font name for a size, colour and charset, e.g. {@code luckiest-guy-40-ffffffff}. */
+    static String fontKey(FreeTypeFontGenerator.FreeTypeFontParameter parameters) {
+        String key = FONT_NAME + "-" + parameters.size + "-" + parameters.color;
+        if (!FreeTypeFontGenerator.DEFAULT_CHARS.equals(parameters.characters)) {
+            key += "-" + Integer.toHexString(parameters.characters.hashCode());
+        }
+        return key;
+    }
+
+    /** Every distinct font the game uses, for {@link FontBaker}. */
+    static Array<AssetDescriptor<BitmapFont>> fonts() {
+        return FONTS;
+    }
+
+    /** Takes a reference on every asset in the group, queueing any that are not loaded yet. */
+    public void acquire(Group group) {
+        for (AssetDescriptor<?> descriptor : descriptors(group)) {
+            manager.load(descriptor);
+        }
+    }
+
+    /** Drops a reference on every asset in the group; assets nobody holds any more are disposed. */
+    public void release(Group group) {
+        for (AssetDescriptor<?> descriptor : descriptors(group)) {
+            manager.unload(descriptor.fileName);
+        }
+    }
+
+    /** Advances loading for at most {@code millis}; returns true once everything queued is loaded. */
+    public boolean update(int millis) {
+        return manager.update(millis);
+    }
+
+    /** Blocks until everything queued is loaded. */
+    public void finishLoading() {
+        manager.finishLoading();
+    }
+
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    /** True once every asset of the group is loaded. */
+    public boolean isLoaded(Group group) {
+        for (AssetDescriptor<?> descriptor : descriptors(group)) {
+            if (!manager.isLoaded(descriptor.fileName, descriptor.type)) return false;
+        }
+        return true;
+    }
+
+    /** Fraction of the group's assets that are loaded; coarse, since it counts whole assets. */
+    public float getProgress(Group group) {
+        AssetDescriptor<?>[] descriptors = descriptors(group);
+        int loaded = 0;
+        for (AssetDescriptor<?> descriptor : descriptors) {
+            if (manager.isLoaded(descriptor.fileName, descriptor.type)) loaded++;
+        }
+        return (float) loaded / descriptors.length;
+    }
+
+    public <T> T get(AssetDescriptor<T> descriptor) {
+        return manager.get(descriptor);
+    }
+
+    /** The sprite atlas variant picked for this display. */
+    public TextureAtlas getAtlas() {
+        return manager.get(atlas);
+    }
+
+    private AssetDescriptor<?>[] descriptors(Group group) {
+        return group == Group.MENU ? menu : game;
+    }
+
+    @Override
+    public void dispose() {
+        manager.dispose();
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.BitmapFontLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeBitmapFontData;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Loads a {@link BitmapFont} from a TTF through {@link AssetManager}, rasterising the glyphs on the asset loading
+ * thread. libGDX's own {@code FreetypeFontLoader} does all of its FreeType work in {@code loadSync}, on the render
+ * thread; here only the final texture upload of the packed glyph pages happens there.
+ * <p>
+ * The TTF is shared through a {@code <fontFileName>.gen} {@link FreeTypeFontGenerator} dependency, so every size of
+ * the same font reuses one generator. The asset manager runs async work on a single thread, so the generator is
+ * never used concurrently.
+ * <p>
+ * When the asset's own file exists, it is a font baked ahead of time by {@link FontBaker} and is loaded as a plain
+ * BMFont instead: no FreeType library, no generator and no rasterising, only the page PNGs to decode and upload.
+ */
+public class AsyncFreeTypeFontLoader extends AsynchronousAssetLoader<BitmapFont, AsyncFreeTypeFontLoader.Parameters> {
+    private static final int PAGE_SIZE = 1024;
+
+    private final BitmapFontLoader bakedLoader;
+    private PixmapPacker packer;
+    private FreeTypeBitmapFontData data;
+
+    public AsyncFreeTypeFontLoader(FileHandleResolver resolver) {
+        super(resolver);
+        bakedLoader = new BitmapFontLoader(resolver);
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameters parameter) {
+        if (file.exists()) return bakedLoader.getDependencies(fileName, file, baked(parameter));   // Its page PNGs
+        Array<AssetDescriptor> dependencies = new Array<>();
+        dependencies.add(new AssetDescriptor<>(parameter.fontFileName + ".gen", FreeTypeFontGenerator.class));
+        return dependencies;
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        if (file.exists()) {
+            bakedLoader.loadAsync(manager, fileName, file, baked(parameter));
+            return;
+        }
+        FreeTypeFontGenerator generator = manager.get(parameter.fontFileName + ".gen", FreeTypeFontGenerator.class);
+
+        // With our own packer, generateData() only fills CPU-side pixmaps and never touches GL
+        packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 1, false, new PixmapPacker.SkylineStrategy());
+        parameter.fontParameters.packer = packer;
+        data = new FreeTypeBitmapFontData();
+        data.regions = new Array<>();
+        generator.generateData(parameter.fontParameters, data);
+        parameter.fontParameters.packer = null;
+    }
+
+    @Override
+    public BitmapFont loadSync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        if (file.exists()) return bakedLoader.loadSync(manager, fileName, file, baked(parameter));
+        FreeTypeFontParameter fontParameters = parameter.fontParameters;
+        packer.updateTextureRegions(data.regions, fontParameters.minFilter, fontParameters.magFilter, fontParameters.genMipMaps);
+        BitmapFont font = new BitmapFont(data, data.regions, true);
+        font.setOwnsTexture(true);                              // Page textures free their pixmaps when disposed
+        packer.dispose();
+        packer = null;
+        data = null;
+        return font;
+    }
+
+    /** Loads baked pages with the same filtering the generator would have used. */
+    private static BitmapFontLoader.BitmapFontParameter baked(Parameters parameter) {
+        BitmapFontLoader.BitmapFontParameter baked = new BitmapFontLoader.BitmapFontParameter();
+        baked.minFilter = parameter.fontParameters.minFilter;
+        baked.magFilter = parameter.fontParameters.magFilter;
+        baked.genMipMaps = parameter.fontParameters.genMipMaps;
+        return baked;
+    }
+
+    public static class Parameters extends AssetLoaderParameters<BitmapFont> {
+        public String fontFileName;
+        public FreeTypeFontParameter fontParameters = new FreeTypeFontParameter();
+    }
+}
@@ -0,0 +1,191 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Plays many independent, seeded headless {@link Simulation} runs on a fork-join pool. Every run owns its own
+ * simulation and policy, and writes only to its own slot of the result arrays, so workers share no mutable state.
+ * <p>
+ * Run {@link #main(String[])} to print score distributions, ticks per second and per-core scaling, e.g.
+ * {@code runs=200000 maxTicks=18000 policy=reactive spawner=interval spawnInterval=2.5 jumpVelocity=650}, or
+ * {@code policy=bot:bots/best.bot} to soak-test a genome trained by {@link BotTrainer}.
+ */
+public class BatchSimulator {
+    private static final int RUNS_PER_TASK = 64;                // Leaf size for the fork-join split
+
+    private final SimulationConfig config;
+    private final JumpPolicy.Factory policies;
+    private final int maxTicks;
+
+    /** Runs that are still alive after {@code maxTicks} steps are stopped and counted with their current score. */
+    public BatchSimulator(SimulationConfig config, JumpPolicy.Factory policies, int maxTicks) {
+        this.config = new SimulationConfig(config);
+        this.policies = policies;
+        this.maxTicks = maxTicks;
+    }
+
+    public Result run(int runs, long baseSeed, ForkJoinPool pool) {
+        Result result = new Result(runs, pool.getParallelism());
+        long start = System.nanoTime();
+        pool.invoke(new RunTask(result, baseSeed, 0, runs));
+        result.nanos = System.nanoTime() - start;
+        return result;
+    }
+
+    /** Plays a single run to game over or {@code maxTicks}; returns the number of steps taken. */
+    private int play(long seed, Result result, int index) {
+        Simulation simulation = new Simulation(config, seed);
+        JumpPolicy policy = policies.create(seed);
+        int tick = 0;
+        while (tick < maxTicks && !simulation.isGameOver()) {
+            if (policy.shouldJump(simulation, tick)) simulation.pressJump();
+            simulation.step();
+            tick++;
+        }
+        result.scores[index] = simulation.getScore();
+        result.ticks[index] = tick;
+        return tick;
+    }
+
+    private class RunTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;        // Never serialised; RecursiveAction is Serializable
+        private final Result result;
+        private final long baseSeed;
+        private final int from, to;
+
+        RunTask(Result result, long baseSeed, int from, int to) {
+            this.result = result;
+            this.baseSeed = baseSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= RUNS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    play(Seeds.derive(baseSeed, i), result, i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RunTask(result, baseSeed, from, mid), new RunTask(result, baseSeed, mid, to));
+        }
+    }
+
+    /** Per-run scores and step counts plus the wall time of the whole batch. */
+    public static class Result {
+        public final int[] scores;
+        public final int[] ticks;
+        public final int parallelism;
+        public long nanos;
+
+        Result(int runs, int parallelism) {
+            scores = new int[runs];
+            ticks = new int[runs];
+            this.parallelism = parallelism;
+        }
+
+        public long totalTicks() {
+            long total = 0;
+            for (int tick : ticks) total += tick;
+            return total;
+        }
+
+        public double ticksPerSecond() {
+            return totalTicks() / (nanos / 1e9);
+        }
+
+        public double meanScore() {
+            long total = 0;
+            for (int score : scores) total += score;
+            return scores.length == 0 ? 0 : (double) total / scores.length;
+        }
+
+        /** Score at the given percentile (0-100) using nearest-rank on a sorted copy. */
+        public int scorePercentile(double percentile) {
+            if (scores.length == 0) return 0;
+            int[] sorted = scores.clone();
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, rank))];
+        }
+
+        /** Number of runs that ended with each score, indexed by score. */
+        public int[] scoreHistogram() {
+            int max = 0;
+            for (int score : scores) max = Math.max(max, score);
+            int[] histogram = new int[max + 1];
+            for (int score : scores) histogram[score]++;
+            return histogram;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int runs = 100_000;
+        int maxTicks = 60 * 60 * 5;                             // Five minutes of game time
+        long seed = 1;
+        String policyName = "reactive";
+        SimulationConfig config = new SimulationConfig();
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            switch (pair[0]) {
+                case "runs": runs = Integer.parseInt(pair[1]); break;
+                case "maxTicks": maxTicks = Integer.parseInt(pair[1]); break;
+                case "seed": seed = Long.parseLong(pair[1]); break;
+                case "policy": policyName = pair[1]; break;
+                case "gravity": config.gravity = Float.parseFloat(pair[1]); break;
+                case "jumpVelocity": config.jumpVelocity = Float.parseFloat(pair[1]); break;
+                case "spawnInterval": config.obstacleSpawnInterval = Float.parseFloat(pair[1]); break;
+                case "spawner": config.spawner = SimulationConfig.Spawner.valueOf(pair[1].toUpperCase()); break;
+                default: throw new IllegalArgumentException("Unknown option: " + pair[0]);
+            }
+        }
+
+        JumpPolicy.Factory policies;
+        switch (policyName) {
+            case "idle": policies = JumpPolicy.idle(); break;
+            case "random": policies = JumpPolicy.random(0.02f); break;
+            case "reactive": policies = JumpPolicy.reactive(60, 40); break;
+            default:
+                if (!policyName.startsWith("bot:")) throw new IllegalArgumentException("Unknown policy: " + policyName);
+                policies = BotPolicy.load(new FileHandle(new File(policyName.substring(4)))).factory();  // From BotTrainer
+        }
+
+        BatchSimulator simulator = new BatchSimulator(config, policies, maxTicks);
+        System.out.println("Config: " + config + ", policy=" + policyName + ", maxTicks=" + maxTicks);
+
+        // Warm up the JIT on every worker before measuring
+        simulator.run(Math.min(runs, 2_000), seed ^ 0x5DEECE66DL, ForkJoinPool.commonPool());
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        double baseline = 0;
+        Result last = null;
+        for (int parallelism = 1; ; parallelism = Math.min(parallelism * 2, cores)) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            last = simulator.run(runs, seed, pool);
+            pool.shutdown();
+
+            double ticksPerSecond = last.ticksPerSecond();
+            if (parallelism == 1) baseline = ticksPerSecond;
+            System.out.printf("cores=%3d  %,14.0f ticks/s  speedup=%5.2fx  efficiency=%5.1f%%%n",
+                parallelism, ticksPerSecond, ticksPerSecond / baseline, 100 * ticksPerSecond / baseline / parallelism);
+            if (parallelism == cores) break;
+        }
+
+        System.out.printf("Runs: %,d  total ticks: %,d%n", runs, last.totalTicks());
+        System.out.printf("Score mean=%.2f p50=%d p90=%d p99=%d max=%d%n", last.meanScore(),
+            last.scorePercentile(50), last.scorePercentile(90), last.scorePercentile(99), last.scorePercentile(100));
+        int[] histogram = last.scoreHistogram();
+        for (int score = 0; score < histogram.length; score++) {
+            if (histogram[score] > 0) System.out.printf("  score %4d: %,d%n", score, histogram[score]);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.graphics.Texture;
+import io.github.PorkyRun.ParallaxBackground.Layer;
+
+/** Scenery a run passes through. A biome starts once the score reaches its threshold and lasts until the restart. */
+public enum Biome {
+    FARM(0, Assets.FARM_BACKGROUND, true,
+        new Layer(0, 0.22f, 6),                                 // Sky above the silo
+        new Layer(0.22f, 0.755f, 30),                           // Barn, sun and hills
+        new Layer(0.755f, 1, 400)),                             // Field, at the speed hay bales move
+    FOREST(5, Assets.FOREST_BACKGROUND, false,                  // Too dense a canopy for clouds
+        new Layer(0, 0.3f, 10),                                 // Canopy
+        new Layer(0.3f, 0.92f, 60),                             // Trunks and bushes
+        new Layer(0.92f, 1, 400));                              // Forest floor
+
+    private static final Biome[] VALUES = values();
+
+    public final int fromScore;
+    public final AssetDescriptor<Texture> background;
+    public final boolean hasClouds;
+    /** Bands of the background, from top to bottom, for {@link ParallaxBackground}. */
+    public final Layer[] layers;
+
+    Biome(int fromScore, AssetDescriptor<Texture> background, boolean hasClouds, Layer... layers) {
+        this.fromScore = fromScore;
+        this.background = background;
+        this.hasClouds = hasClouds;
+        this.layers = layers;
+    }
+
+    /** The last biome whose threshold the score has reached. */
+    public static Biome forScore(int score) {
+        Biome biome = FARM;
+        for (Biome candidate : VALUES) {
+            if (score >= candidate.fromScore) biome = candidate;
+        }
+        return biome;
+    }
+}
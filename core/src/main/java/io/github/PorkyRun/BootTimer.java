@@ -0,0 +1,62 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.Gdx;
+
+import java.time.Instant;
+
+/**
+ * Startup milestones, timed from when the operating system started the process, so JVM or native-image boot is
+ * included. Each one is logged once under the "Boot" tag. With {@link #EXIT_AFTER_BOOT_PROPERTY} set, the game
+ * quits as soon as the menu is up, which makes startup easy to time from a script.
+ */
+public final class BootTimer {
+    /** When set, the application exits right after the menu is first shown. */
+    public static final String EXIT_AFTER_BOOT_PROPERTY = "porkyrun.exitAfterBoot";
+    public static final long FIRST_FRAME_TARGET_MILLIS = 300;  // Native image on Linux; a JVM start takes longer
+    public static final long MENU_TARGET_MILLIS = 1000;
+
+    private static final long START_MILLIS = ProcessHandle.current().info().startInstant()
+        .map(Instant::toEpochMilli)
+        .orElse(System.currentTimeMillis());                    // Unknown start, so time from class loading instead
+    private static long firstFrameMillis = -1;
+    private static long menuMillis = -1;
+
+    private BootTimer() {
+    }
+
+    /** True when running as a GraalVM native image rather than on a JVM. */
+    public static boolean isNativeImage() {
+        return System.getProperty("org.graalvm.nativeimage.imagecode") != null;
+    }
+
+    static void firstFrame() {
+        if (firstFrameMillis >= 0) return;
+        firstFrameMillis = sinceStart();
+        log("first frame", firstFrameMillis, FIRST_FRAME_TARGET_MILLIS);
+    }
+
+    static void menuShown() {
+        if (menuMillis >= 0) return;
+        menuMillis = sinceStart();
+        log("menu", menuMillis, MENU_TARGET_MILLIS);
+        if (Boolean.getBoolean(EXIT_AFTER_BOOT_PROPERTY)) Gdx.app.exit();
+    }
+
+    public static long getFirstFrameMillis() {
+        return firstFrameMillis;
+    }
+
+    public static long getMenuMillis() {
+        return menuMillis;
+    }
+
+    private static long sinceStart() {
+        return System.currentTimeMillis() - START_MILLIS;
+    }
+
+    private static void log(String milestone, long millis, long target) {
+        String runtime = isNativeImage() ? "native" : "jvm";
+        String verdict = millis <= target ? "" : " (target " + target + " ms)";
+        Gdx.app.log("Boot", milestone + " after " + millis + " ms, " + runtime + verdict);
+    }
+}
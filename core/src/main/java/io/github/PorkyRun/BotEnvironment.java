@@ -0,0 +1,96 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * A {@link Simulation} as a bot sees it: a fixed-size observation vector before each step, and one jump-or-not
+ * action per step. The rules are the simulation's own, the same ones {@link GameScreen} draws, so a bot plays
+ * exactly the game a person does. Observing and stepping do not allocate, so many environments can run side by side
+ * on worker threads.
+ * <p>
+ * The observation, with every value scaled to roughly [-1, 1]:
+ * <ol>
+ *     <li>Porky's height above the ground</li>
+ *     <li>his vertical velocity, relative to the default jump velocity</li>
+ *     <li>1 when he is on the ground, else 0</li>
+ *     <li>then, for each of the {@link #OBSTACLES_OBSERVED} nearest bales or pickups not yet passed: the gap from
+ *     Porky's hitbox to its hitbox, its speed, and 1 for a bale or -1 for a pickup; a gap of 1 and zeros when there
+ *     are fewer</li>
+ * </ol>
+ */
+public class BotEnvironment {
+    public static final int OBSTACLES_OBSERVED = 2;
+    public static final int OBSERVATION_SIZE = 3 + OBSTACLES_OBSERVED * 3;
+    private static final float HEIGHT_SCALE = 200;              // About the top of a jump
+    private static final float VELOCITY_SCALE = new SimulationConfig().jumpVelocity;
+    private static final float GAP_SCALE = Simulation.OBSTACLE_START_X;
+
+    private final SimulationConfig config;
+    private Simulation simulation;
+
+    public BotEnvironment(SimulationConfig config) {
+        this.config = new SimulationConfig(config);
+    }
+
+    /** Starts a new episode on the given seed. */
+    public void reset(long seed) {
+        simulation = new Simulation(config, seed);
+    }
+
+    public void observe(float[] observation) {
+        observe(simulation, observation);
+    }
+
+    /** Presses jump if asked to, then takes one fixed step. */
+    public void step(boolean jump) {
+        if (jump) simulation.pressJump();
+        simulation.step();
+    }
+
+    /** True once the episode has ended in a game over. */
+    public boolean isDone() {
+        return simulation.isGameOver();
+    }
+
+    public Simulation getSimulation() {
+        return simulation;
+    }
+
+    /** Writes {@code simulation}'s observation into the first {@link #OBSERVATION_SIZE} slots of {@code observation}. */
+    public static void observe(Simulation simulation, float[] observation) {
+        observation[0] = (simulation.getPorkyY() - Simulation.GROUND) / HEIGHT_SCALE;
+        observation[1] = simulation.getVelocity() / VELOCITY_SCALE;
+        observation[2] = simulation.isOnGround() ? 1 : 0;
+
+        // Nearest obstacles by gap, picked by insertion into a list of OBSTACLES_OBSERVED slots
+        Rectangle porky = simulation.getPorkyHitbox();
+        float porkyRight = porky.x + porky.width;
+        EntityStore obstacles = simulation.getObstacles();
+        for (int slot = 0; slot < OBSTACLES_OBSERVED; slot++) {
+            observation[3 + slot * 3] = Float.MAX_VALUE;
+        }
+        for (int i = 0; i < obstacles.size(); i++) {
+            if (obstacles.getHitX(i) + obstacles.getHitWidth(i) < porky.x) continue;   // Already behind Porky
+            float gap = obstacles.getHitX(i) - porkyRight;
+            int slot = OBSTACLES_OBSERVED;
+            while (slot > 0 && gap < observation[3 + (slot - 1) * 3]) slot--;
+            if (slot == OBSTACLES_OBSERVED) continue;
+            for (int move = OBSTACLES_OBSERVED - 1; move > slot; move--) {
+                System.arraycopy(observation, 3 + (move - 1) * 3, observation, 3 + move * 3, 3);
+            }
+            observation[3 + slot * 3] = gap;
+            observation[4 + slot * 3] = obstacles.getSpeed(i) / Simulation.OBSTACLE_SPEED;
+            observation[5 + slot * 3] = obstacles.getKind(i) == HitType.OBSTACLE.ordinal() ? 1 : -1;
+        }
+        for (int slot = 0; slot < OBSTACLES_OBSERVED; slot++) {
+            int base = 3 + slot * 3;
+            if (observation[base] == Float.MAX_VALUE) {
+                observation[base] = 1;                          // Nothing there, as if a full screen away
+                observation[base + 1] = 0;
+                observation[base + 2] = 0;
+            } else {
+                observation[base] /= GAP_SCALE;
+            }
+        }
+    }
+}
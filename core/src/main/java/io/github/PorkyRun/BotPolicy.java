@@ -0,0 +1,76 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A small neural network that decides from a {@link BotEnvironment} observation whether to jump: one hidden layer
+ * of {@link #HIDDEN} tanh units, and a jump whenever the single output is positive. All its weights sit in one flat
+ * genome array, which is what {@link BotTrainer} evolves. Instances keep their own scratch buffers, so use one per
+ * thread; the genome itself is only read and can be shared.
+ */
+public class BotPolicy implements JumpPolicy {
+    public static final int HIDDEN = 8;
+    /** Genome length: weights plus a bias for every hidden unit, then for the output. */
+    public static final int GENOME_SIZE = (BotEnvironment.OBSERVATION_SIZE + 1) * HIDDEN + HIDDEN + 1;
+
+    private final float[] genome;
+    private final float[] observation = new float[BotEnvironment.OBSERVATION_SIZE];
+
+    public BotPolicy(float[] genome) {
+        if (genome.length != GENOME_SIZE) {
+            throw new IllegalArgumentException("Expected " + GENOME_SIZE + " weights but got " + genome.length);
+        }
+        this.genome = genome;
+    }
+
+    /** A fresh policy per run, all sharing this genome. The seed is ignored; the network is deterministic. */
+    public Factory factory() {
+        return seed -> new BotPolicy(genome);
+    }
+
+    @Override
+    public boolean shouldJump(Simulation simulation, int tick) {
+        BotEnvironment.observe(simulation, observation);
+        return shouldJump(observation);
+    }
+
+    public boolean shouldJump(float[] observation) {
+        int inputs = BotEnvironment.OBSERVATION_SIZE;
+        int weight = 0;
+        float output = 0;
+        int outputWeights = (inputs + 1) * HIDDEN;
+        for (int unit = 0; unit < HIDDEN; unit++) {
+            float sum = genome[weight + inputs];                // Bias
+            for (int i = 0; i < inputs; i++) sum += genome[weight + i] * observation[i];
+            weight += inputs + 1;
+            output += genome[outputWeights + unit] * (float) Math.tanh(sum);
+        }
+        return output + genome[GENOME_SIZE - 1] > 0;
+    }
+
+    public float[] getGenome() {
+        return genome;
+    }
+
+    /** Writes the genome as text, one weight per line. */
+    public void save(FileHandle file) throws IOException {
+        try (Writer writer = file.writer(false, "UTF-8")) {
+            for (float weight : genome) writer.write(weight + "\n");
+        }
+    }
+
+    public static BotPolicy load(FileHandle file) throws IOException {
+        String[] lines = file.readString("UTF-8").trim().split("\\s+");
+        float[] genome = new float[lines.length];
+        try {
+            for (int i = 0; i < lines.length; i++) genome[i] = Float.parseFloat(lines[i]);
+        } catch (NumberFormatException e) {
+            throw new IOException("Not a bot genome: " + file, e);
+        }
+        if (genome.length != GENOME_SIZE) throw new IOException("Bot genome for another network: " + file);
+        return new BotPolicy(genome);
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Evolves {@link BotPolicy} genomes by self-play, CPU only. Each generation every agent plays the same few seeded
+ * episodes in its own {@link BotEnvironment}, spread over a fork-join pool the way {@link BatchSimulator} spreads
+ * runs; the best eighth survive unchanged and the rest are replaced by mutated copies of them. Fitness is the mean
+ * score, with the fraction of {@code maxTicks} survived as a tie-break. Given the same seed and options, training
+ * is deterministic however many cores it runs on.
+ * <p>
+ * Run {@link #main(String[])} to train and print agent-steps per second, e.g.
+ * {@code population=1024 generations=50 episodes=4 maxTicks=7200 sigma=0.1 out=bots/best.bot}.
+ */
+public class BotTrainer {
+    private static final int AGENTS_PER_TASK = 4;               // Leaf size for the fork-join split
+    private static final float INITIAL_SCALE = 0.5f;            // Spread of the random first generation
+
+    private final SimulationConfig config;
+    private final int episodes;
+    private final int maxTicks;
+    private final float sigma;
+    private final long seed;
+    private float[][] genomes;
+    private final float[] fitness;
+    private final long[] steps;
+    private int generation = 0;
+
+    public BotTrainer(SimulationConfig config, int population, int episodes, int maxTicks, float sigma, long seed) {
+        this.config = new SimulationConfig(config);
+        this.episodes = episodes;
+        this.maxTicks = maxTicks;
+        this.sigma = sigma;
+        this.seed = seed;
+        genomes = new float[population][BotPolicy.GENOME_SIZE];
+        fitness = new float[population];
+        steps = new long[population];
+        for (int agent = 0; agent < population; agent++) {
+            RandomXS128 random = new RandomXS128(Seeds.derive(seed, agent));
+            for (int i = 0; i < BotPolicy.GENOME_SIZE; i++) {
+                genomes[agent][i] = (float) random.nextGaussian() * INITIAL_SCALE;
+            }
+        }
+    }
+
+    /** Evaluates the current generation, breeds the next one from its best, and reports how the evaluation went. */
+    public Generation evolve(ForkJoinPool pool) {
+        long[] episodeSeeds = new long[episodes];
+        for (int e = 0; e < episodes; e++) {
+            episodeSeeds[e] = Seeds.derive(seed ^ 0x6A09E667F3BCC909L, generation * episodes + e);
+        }
+        long start = System.nanoTime();
+        pool.invoke(new EvaluateTask(episodeSeeds, 0, genomes.length));
+        long nanos = System.nanoTime() - start;
+
+        Integer[] ranking = new Integer[genomes.length];
+        for (int agent = 0; agent < ranking.length; agent++) ranking[agent] = agent;
+        Arrays.sort(ranking, Comparator.comparingDouble(agent -> -fitness[agent]));   // Stable, so ties keep order
+
+        Generation result = new Generation(generation, pool.getParallelism(), nanos);
+        int elites = Math.max(1, genomes.length / 8);
+        for (int agent = 0; agent < genomes.length; agent++) {
+            result.steps += steps[agent];
+            result.meanFitness += fitness[agent] / genomes.length;
+            if (agent < elites) result.eliteFitness += fitness[ranking[agent]] / elites;
+        }
+        result.bestFitness = fitness[ranking[0]];
+        result.best = genomes[ranking[0]].clone();
+
+        // Elites carry over as they are; everyone else is a mutated copy of one of them
+        float[][] next = new float[genomes.length][];
+        for (int agent = 0; agent < genomes.length; agent++) {
+            float[] parent = genomes[ranking[agent % elites]];
+            if (agent < elites) {
+                next[agent] = parent;
+                continue;
+            }
+            // Derived per generation, not seed + generation, so neighbouring seeds don't share mutation streams
+            RandomXS128 random = new RandomXS128(Seeds.derive(Seeds.derive(seed, generation + 1), agent));
+            float[] child = parent.clone();
+            for (int i = 0; i < child.length; i++) child[i] += (float) random.nextGaussian() * sigma;
+            next[agent] = child;
+        }
+        genomes = next;
+        generation++;
+        return result;
+    }
+
+    /** Plays one agent through every episode; only writes that agent's slots. */
+    private void evaluate(int agent, long[] episodeSeeds, BotEnvironment environment, float[] observation) {
+        BotPolicy policy = new BotPolicy(genomes[agent]);
+        float total = 0;
+        long taken = 0;
+        for (long episodeSeed : episodeSeeds) {
+            environment.reset(episodeSeed);
+            int tick = 0;
+            while (tick < maxTicks && !environment.isDone()) {
+                environment.observe(observation);
+                environment.step(policy.shouldJump(observation));
+                tick++;
+            }
+            total += environment.getSimulation().getScore() + (float) tick / maxTicks;
+            taken += tick;
+        }
+        fitness[agent] = total / episodeSeeds.length;
+        steps[agent] = taken;
+    }
+
+    private class EvaluateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;        // Never serialised; RecursiveAction is Serializable
+        private final long[] episodeSeeds;
+        private final int from, to;
+
+        EvaluateTask(long[] episodeSeeds, int from, int to) {
+            this.episodeSeeds = episodeSeeds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= AGENTS_PER_TASK) {
+                BotEnvironment environment = new BotEnvironment(config);
+                float[] observation = new float[BotEnvironment.OBSERVATION_SIZE];
+                for (int agent = from; agent < to; agent++) {
+                    evaluate(agent, episodeSeeds, environment, observation);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new EvaluateTask(episodeSeeds, from, mid), new EvaluateTask(episodeSeeds, mid, to));
+        }
+    }
+
+    /** How one generation did, and how fast it was evaluated. */
+    public static class Generation {
+        public final int index;
+        public final int parallelism;
+        public final long nanos;
+        public long steps;                                      // Simulation steps taken by all agents together
+        public float bestFitness;
+        public float eliteFitness;
+        public float meanFitness;
+        public float[] best;                                    // Genome of the fittest agent
+
+        Generation(int index, int parallelism, long nanos) {
+            this.index = index;
+            this.parallelism = parallelism;
+            this.nanos = nanos;
+        }
+
+        public double agentStepsPerSecond() {
+            return steps / (nanos / 1e9);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int population = 512;
+        int generations = 30;
+        int episodes = 4;
+        int maxTicks = 60 * 60 * 2;                             // Two minutes of game time per episode
+        float sigma = 0.1f;
+        long seed = 1;
+        int cores = Runtime.getRuntime().availableProcessors();
+        String out = null;
+        SimulationConfig config = new SimulationConfig();
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            switch (pair[0]) {
+                case "population": population = Integer.parseInt(pair[1]); break;
+                case "generations": generations = Integer.parseInt(pair[1]); break;
+                case "episodes": episodes = Integer.parseInt(pair[1]); break;
+                case "maxTicks": maxTicks = Integer.parseInt(pair[1]); break;
+                case "sigma": sigma = Float.parseFloat(pair[1]); break;
+                case "seed": seed = Long.parseLong(pair[1]); break;
+                case "cores": cores = Integer.parseInt(pair[1]); break;
+                case "out": out = pair[1]; break;
+                case "spawner": config.spawner = SimulationConfig.Spawner.valueOf(pair[1].toUpperCase()); break;
+                default: throw new IllegalArgumentException("Unknown option: " + pair[0]);
+            }
+        }
+
+        BotTrainer trainer = new BotTrainer(config, population, episodes, maxTicks, sigma, seed);
+        System.out.println("Config: " + config + ", population=" + population + ", episodes=" + episodes
+            + ", maxTicks=" + maxTicks + ", sigma=" + sigma + ", cores=" + cores);
+
+        ForkJoinPool pool = new ForkJoinPool(cores);
+        Generation last = null;
+        long totalSteps = 0;
+        long totalNanos = 0;
+        for (int i = 0; i < generations; i++) {
+            last = trainer.evolve(pool);
+            totalSteps += last.steps;
+            totalNanos += last.nanos;
+            System.out.printf("gen %3d  best %7.2f  elite %7.2f  mean %7.2f  %,14.0f agent-steps/s  (%,.0f per core)%n",
+                last.index, last.bestFitness, last.eliteFitness, last.meanFitness, last.agentStepsPerSecond(),
+                last.agentStepsPerSecond() / last.parallelism);
+        }
+        pool.shutdown();
+        System.out.printf("Total: %,d agent-steps in %.1f s, %,.0f agent-steps/s on %d cores%n",
+            totalSteps, totalNanos / 1e9, totalSteps / (totalNanos / 1e9), cores);
+
+        if (out != null && last != null) {
+            FileHandle file = new FileHandle(new File(out));
+            file.parent().mkdirs();
+            new BotPolicy(last.best).save(file);
+            System.out.println("Best genome written to " + out);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+/**
+ * Tuning overlay: hitboxes, velocity vectors and the spawn point, all in one line pass of the shared shape renderer.
+ * It is off by default, and while off the only cost is the {@link #isEnabled()} check the caller makes; nothing is
+ * begun or flushed. Start it on with {@link #PROPERTY}, or toggle it at runtime.
+ */
+public class DebugDraw {
+    /** When set, the overlay starts switched on. */
+    public static final String PROPERTY = "porkyrun.debugDraw";
+    private static final float VELOCITY_SCALE = 0.1f;           // Drawn length per unit of speed, in seconds
+    private static final float MARKER_SIZE = 8;
+
+    private final ShapeRenderer shapes;
+    private boolean enabled = Boolean.getBoolean(PROPERTY);
+
+    public DebugDraw(ShapeRenderer shapes) {
+        this.shapes = shapes;
+    }
+
+    public void toggle() {
+        enabled = !enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Draws the simulation's state {@code alpha} of the way into the current step, lined up with the interpolated
+     * sprites. The shape renderer's projection must already be set.
+     */
+    public void draw(Simulation simulation, float alpha) {
+        shapes.begin(ShapeRenderer.ShapeType.Line);
+
+        // Porky: hitbox in green, vertical velocity in white from its centre
+        float porkyX = simulation.getPorkyX() + Simulation.HITBOX_OFFSET_X;
+        float porkyY = simulation.getPorkyY(alpha) + Simulation.HITBOX_OFFSET_Y;
+        float centreX = porkyX + Simulation.HITBOX_WIDTH / 2f;
+        float centreY = porkyY + Simulation.HITBOX_HEIGHT / 2f;
+        shapes.setColor(0, 1, 0, 1);
+        shapes.rect(porkyX, porkyY, Simulation.HITBOX_WIDTH, Simulation.HITBOX_HEIGHT);
+        shapes.setColor(1, 1, 1, 1);
+        shapes.line(centreX, centreY, centreX, centreY + simulation.getVelocity() * VELOCITY_SCALE);
+
+        // Obstacles in red and pickups in yellow, each with its velocity pointing left
+        EntityStore obstacles = simulation.getObstacles();
+        for (int i = 0; i < obstacles.size(); i++) {
+            float x = obstacles.getX(i, alpha) + obstacles.getHitX(i) - obstacles.getX(i);
+            float y = obstacles.getHitY(i);
+            float width = obstacles.getHitWidth(i);
+            float height = obstacles.getHitHeight(i);
+            if (obstacles.getKind(i) == HitType.OBSTACLE.ordinal()) {
+                shapes.setColor(1, 0, 0, 1);
+            } else {
+                shapes.setColor(1, 1, 0, 1);
+            }
+            shapes.rect(x, y, width, height);
+            shapes.line(x, y + height / 2, x - obstacles.getSpeed(i) * VELOCITY_SCALE, y + height / 2);
+        }
+
+        // Spawn point: a cyan cross where every bale enters
+        float spawnX = Simulation.OBSTACLE_START_X + Simulation.OBSTACLE_HITBOX_OFFSET_X;
+        float spawnY = Simulation.OBSTACLE_START_Y + Simulation.OBSTACLE_HITBOX_OFFSET_Y;
+        shapes.setColor(0, 1, 1, 1);
+        shapes.line(spawnX - MARKER_SIZE, spawnY, spawnX + MARKER_SIZE, spawnY);
+        shapes.line(spawnX, spawnY - MARKER_SIZE, spawnX, spawnY + MARKER_SIZE);
+
+        shapes.end();
+    }
+}
@@ -0,0 +1,192 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Arrays;
+
+/**
+ * Scrolling entities (obstacles, pickups, clouds, decorations) stored as parallel primitive arrays, one slot per
+ * entity. Moving them all is a single pass over the x column, and removing one moves the last entity into its slot,
+ * so nothing is allocated or shifted per entity once the arrays have grown to the working size.
+ * <p>
+ * Indices are only stable until the next {@link #remove(int)} or {@link #removeOffScreen(int)}; anything that
+ * caches them can compare {@link #getModCount()} to tell when they were reshuffled.
+ */
+public class EntityStore {
+    private float[] x;
+    private float[] previousX;                                  // X before the last update, for interpolation
+    private float[] y;
+    private float[] width;                                      // Off screen once x + width is left of 0
+    private float[] speed;                                      // Pixels per second to the left
+    private float[] hitOffsetX, hitOffsetY, hitWidth, hitHeight;
+    private int[] region;                                       // Index into the owner's texture regions
+    private int[] kind;                                         // Owner-defined, e.g. a HitType ordinal
+    private int size = 0;
+    private int modCount = 0;                                   // Bumped whenever indices are added or reshuffled
+    private int updateCount = 0;                                // Bumped whenever positions move
+
+    public EntityStore(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        x = new float[capacity];
+        previousX = new float[capacity];
+        y = new float[capacity];
+        width = new float[capacity];
+        speed = new float[capacity];
+        hitOffsetX = new float[capacity];
+        hitOffsetY = new float[capacity];
+        hitWidth = new float[capacity];
+        hitHeight = new float[capacity];
+        region = new int[capacity];
+        kind = new int[capacity];
+    }
+
+    /** Adds an entity without a hitbox and returns its index. */
+    public int add(float startX, float startY, float entityWidth, float entitySpeed, int regionIndex, int entityKind) {
+        if (size == x.length) grow(size * 2);
+        int i = size++;
+        x[i] = startX;
+        previousX[i] = startX;
+        y[i] = startY;
+        width[i] = entityWidth;
+        speed[i] = entitySpeed;
+        hitOffsetX[i] = 0;
+        hitOffsetY[i] = 0;
+        hitWidth[i] = 0;
+        hitHeight[i] = 0;
+        region[i] = regionIndex;
+        kind[i] = entityKind;
+        modCount++;
+        return i;
+    }
+
+    public void setHitbox(int index, float offsetX, float offsetY, float boxWidth, float boxHeight) {
+        hitOffsetX[index] = offsetX;
+        hitOffsetY[index] = offsetY;
+        hitWidth[index] = boxWidth;
+        hitHeight[index] = boxHeight;
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        hitOffsetX = Arrays.copyOf(hitOffsetX, capacity);
+        hitOffsetY = Arrays.copyOf(hitOffsetY, capacity);
+        hitWidth = Arrays.copyOf(hitWidth, capacity);
+        hitHeight = Arrays.copyOf(hitHeight, capacity);
+        region = Arrays.copyOf(region, capacity);
+        kind = Arrays.copyOf(kind, capacity);
+    }
+
+    /** Scrolls every entity left by its own speed. Does not change indices. */
+    public void update(float delta) {
+        updateCount++;
+        System.arraycopy(x, 0, previousX, 0, size);
+        for (int i = 0; i < size; i++) {
+            x[i] -= speed[i] * delta;                           // Straight-line loop over two columns, no branches
+        }
+    }
+
+    /** Removes by moving the last entity into {@code index}. */
+    public void remove(int index) {
+        int last = --size;
+        if (index != last) {
+            x[index] = x[last];
+            previousX[index] = previousX[last];
+            y[index] = y[last];
+            width[index] = width[last];
+            speed[index] = speed[last];
+            hitOffsetX[index] = hitOffsetX[last];
+            hitOffsetY[index] = hitOffsetY[last];
+            hitWidth[index] = hitWidth[last];
+            hitHeight[index] = hitHeight[last];
+            region[index] = region[last];
+            kind[index] = kind[last];
+        }
+        modCount++;
+    }
+
+    /** Removes every entity that scrolled past the left edge; returns how many of them were of {@code countedKind}. */
+    public int removeOffScreen(int countedKind) {
+        int counted = 0;
+        for (int i = size - 1; i >= 0; i--) {                   // Backwards, so the entity swapped in was already checked
+            if (x[i] + width[i] < 0) {
+                if (kind[i] == countedKind) counted++;
+                remove(i);
+            }
+        }
+        return counted;
+    }
+
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getModCount() {
+        return modCount;
+    }
+
+    public int getUpdateCount() {
+        return updateCount;
+    }
+
+    public float getX(int index) {
+        return x[index];
+    }
+
+    /** X blended between the previous and current update; {@code alpha} 0 is the previous update. */
+    public float getX(int index, float alpha) {
+        return previousX[index] + (x[index] - previousX[index]) * alpha;
+    }
+
+    public float getY(int index) {
+        return y[index];
+    }
+
+    public float getWidth(int index) {
+        return width[index];
+    }
+
+    public float getSpeed(int index) {
+        return speed[index];
+    }
+
+    public int getRegion(int index) {
+        return region[index];
+    }
+
+    public int getKind(int index) {
+        return kind[index];
+    }
+
+    public float getHitX(int index) {
+        return x[index] + hitOffsetX[index];
+    }
+
+    public float getHitY(int index) {
+        return y[index] + hitOffsetY[index];
+    }
+
+    public float getHitWidth(int index) {
+        return hitWidth[index];
+    }
+
+    public float getHitHeight(int index) {
+        return hitHeight[index];
+    }
+
+    /** Same test as {@link Rectangle#overlaps(Rectangle)}, against this entity's hitbox. */
+    public boolean overlaps(int index, Rectangle box) {
+        float hitX = getHitX(index);
+        float hitY = getHitY(index);
+        return hitX < box.x + box.width && hitX + hitWidth[index] > box.x
+            && hitY < box.y + box.height && hitY + hitHeight[index] > box.y;
+    }
+}
@@ -8,25 +8,29 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 
 
 /**
- * First screen of the application. Displayed after the application is created.
+ * First screen of the application. Displayed after the application is created, and again whenever the player
+ * leaves a game; {@link Main} keeps the one instance, so the baked background survives between visits.
  */
 public class FirstScreen implements Screen {
     private final Main game;
-    private SpriteBatch batch;
-    private StretchViewport viewport;
-    private BitmapFont titleFont, menuFont;
+    private final RenderContext context;
+    private final SpriteBatch batch;                            // Borrowed from the render context
+    private final StretchViewport viewport;
+    private BitmapFont titleFont, menuFont, highScoreFont;
+    private final GlyphLayout highScoreLayout = new GlyphLayout();
+    private RunStore.Leaderboard shownLeaderboard;              // The snapshot highScoreLayout was laid out from
     private int selectedOption = 0;  // 0 = "New Game", 1 = "Exit"
+    private static final int HIGH_SCORES_SHOWN = 5;
     private float rockingTimer = 0f;
     private Music bgMusic;
     private FrameBuffer bgFrameBuffer;
@@ -34,17 +38,20 @@ public class FirstScreen implements Screen {
 
     public FirstScreen(Main game){
         this.game = game;
+        game.getAssets().acquire(Assets.Group.MENU);
+        context = game.getRenderContext();
+        batch = context.getBatch();
+        viewport = context.getViewport();
+        bgFrameBuffer = context.obtainFrameBuffer(800, 500);   // Background is baked once, not on every visit
+
+        handleBg();
+        handleFont();
     }
 
     @Override
     public void show() {
         // Prepare your screen here.
-        batch = new SpriteBatch();
-        viewport = new StretchViewport(800, 500);
-        bgFrameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, 800, 500, false);       // Initialize FrameBuffer for background optimization
-
-        handleBg();
-        handleFont();
+        selectedOption = 0;
         handleBgm();
     }
 
@@ -58,7 +65,7 @@ public class FirstScreen implements Screen {
     @Override
     public void resize(int width, int height) {
         // Resize your screen here. The parameters represent the new window size.
-        viewport.update(width, height);
+        // The shared viewport is updated by Main
     }
 
     @Override
@@ -79,23 +86,21 @@ public class FirstScreen implements Screen {
     @Override
     public void dispose() {
         // Destroy screen's assets here.
-        batch.dispose();
-        titleFont.dispose();
-        menuFont.dispose();
-        bgMusic.dispose();
-        bgFrameBuffer.dispose();
+        context.free(bgFrameBuffer);
+        game.getAssets().release(Assets.Group.MENU);
     }
 
     private void draw(float delta) {
         Gdx.gl.glClearColor(1,0,0,1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-        viewport.apply();
+        context.apply();
 
         batch.begin();
 
         // Draw background
         batch.draw(bgFrameBufferTextureRegion, 0, 0, viewport.getWorldWidth(), viewport.getWorldHeight());
         displayMenu(delta);
+        displayHighScores();
 
         batch.end();
     }
@@ -111,7 +116,7 @@ public class FirstScreen implements Screen {
         // Menu Actions
         if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
             if (selectedOption == 0) {
-                game.setScreen(new GameScreen());        // Start a new game
+                game.showGame();                         // Start a new game
             } else if (selectedOption == 1) {
                 Gdx.app.exit();                          // Closes the application
             }
@@ -119,45 +124,57 @@ public class FirstScreen implements Screen {
     }
 
     private void handleBg() {
-        Texture bgTexture = new Texture("background.png");
+        Texture bgTexture = game.getAssets().get(Assets.MENU_BACKGROUND);
         Sprite bgSprite = new Sprite(bgTexture);
         bgSprite.setSize(viewport.getWorldWidth(), viewport.getWorldHeight());
 
         // Render the background to the FrameBuffer
+        Matrix4 projection = batch.getProjectionMatrix().cpy();
         bgFrameBuffer.begin();
         Gdx.gl.glClearColor(1, 1, 1, 1);       // Clear the FrameBuffer, Adjust to desired color
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, viewport.getWorldWidth(), viewport.getWorldHeight());
         batch.begin();
         bgSprite.draw(batch);
         batch.end();
 
         bgFrameBuffer.end();
+        batch.setProjectionMatrix(projection);                  // The batch is shared, so leave it as it was
         bgFrameBufferTextureRegion = new TextureRegion(bgFrameBuffer.getColorBufferTexture());
         bgFrameBufferTextureRegion.flip(false, true);           // Flip vertically to correct inversion
     }
 
     private void handleBgm() {
-        bgMusic = Gdx.audio.newMusic(Gdx.files.internal("happy-farm.mp3"));
+        bgMusic = game.getAssets().get(Assets.MENU_MUSIC);
         bgMusic.setVolume(.5f);
         bgMusic.setLooping(true);
         bgMusic.play();
     }
 
     private void handleFont() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("LuckiestGuy-Regular.ttf"));
-        FreeTypeFontParameter titleParameter = new FreeTypeFontParameter();
-        FreeTypeFontParameter menuParameter = new FreeTypeFontParameter();
-
-        titleParameter.size = 60;
-        titleParameter.color = Color.PINK;
-        titleFont = generator.generateFont(titleParameter);
-
-        menuParameter.size = 40;
-        menuParameter.color = Color.WHITE;
-        menuFont = generator.generateFont(menuParameter);
+        titleFont = context.getFont(Assets.TITLE_FONT);
+        menuFont = context.getFont(Assets.MENU_FONT);
+        highScoreFont = context.getFont(Assets.HIGH_SCORE_FONT);
+    }
 
-        generator.dispose();
+    private void displayHighScores() {
+        // The store swaps in a new snapshot after each write, so only lay the text out again when that happens
+        RunStore.Leaderboard leaderboard = game.getRunStore().getLeaderboard();
+        if (leaderboard != shownLeaderboard) {
+            shownLeaderboard = leaderboard;
+            StringBuilder text = new StringBuilder("High Scores");
+            for (int rank = 0; rank < Math.min(HIGH_SCORES_SHOWN, leaderboard.size()); rank++) {
+                RunStore.Run run = leaderboard.get(rank);
+                text.append('\n').append(rank + 1).append(".  ").append(run.score)
+                    .append("  (").append(Math.round(run.getSeconds())).append(" s)");
+            }
+            text.append("\nRuns: ").append(leaderboard.runs);
+            highScoreLayout.setText(highScoreFont, text);
+        }
+        if (leaderboard.runs > 0) {
+            highScoreFont.draw(batch, highScoreLayout, 40, 330);
+        }
     }
 
     private void displayMenu(float delta){
@@ -0,0 +1,47 @@
+package io.github.PorkyRun;
+
+/**
+ * Turns variable frame deltas into a whole number of fixed simulation steps per rendered frame. After a hitch it
+ * runs at most {@code maxStepsPerFrame} steps and drops the rest of the backlog, so one slow frame cannot snowball
+ * into many (the "spiral of death"). What is left over is exposed as {@link #getAlpha()}, how far the renderer
+ * should blend from the previous simulation state towards the current one.
+ */
+public class FixedStepScheduler {
+    private final double step;
+    private final int maxStepsPerFrame;
+    private double accumulator = 0;
+    private double droppedTime = 0;
+
+    public FixedStepScheduler(float step, int maxStepsPerFrame) {
+        this.step = step;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /** Accumulates a frame's delta and returns how many fixed steps to run for it. */
+    public int advance(float delta) {
+        accumulator += delta;
+        int steps = (int) (accumulator / step);
+        if (steps > maxStepsPerFrame) {
+            double excess = (steps - maxStepsPerFrame) * step;
+            droppedTime += excess;                              // Simulation falls behind real time instead
+            accumulator -= excess;
+            steps = maxStepsPerFrame;
+        }
+        accumulator -= steps * step;
+        return steps;
+    }
+
+    /** Fraction of a step left in the accumulator, in [0, 1). */
+    public float getAlpha() {
+        return (float) (accumulator / step);
+    }
+
+    /** Total real time, in seconds, that was skipped because a frame needed more than the step cap. */
+    public double getDroppedTime() {
+        return droppedTime;
+    }
+
+    public void reset() {
+        accumulator = 0;
+    }
+}
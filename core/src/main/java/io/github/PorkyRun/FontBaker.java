@@ -0,0 +1,79 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeBitmapFontData;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+/**
+ * Build-time font step: rasterises every font in {@link Assets} once with FreeType and writes it to
+ * {@code assets/fonts} as a BMFont ({@code .fnt} plus page PNGs), which {@link AsyncFreeTypeFontLoader} then loads
+ * without touching FreeType. Fonts are keyed by size, colour and charset, so equal ones are baked once. Pages are
+ * cropped to the rows glyphs actually use. Run it with {@code ./gradlew core:bakeFonts}.
+ */
+public class FontBaker {
+    private static final int PAGE_SIZE = 1024;
+
+    public static void main(String[] args) {
+        GdxNativesLoader.load();                                // Pixmaps need the native gdx library
+        BitmapFontWriter.setOutputFormat(BitmapFontWriter.OutputFormat.Text);
+        FileHandle output = new FileHandle("assets/" + Assets.FONT_DIRECTORY);
+        output.mkdirs();
+
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(new FileHandle("assets/" + Assets.FONT_FILE));
+        for (AssetDescriptor<BitmapFont> descriptor : Assets.fonts()) {
+            AsyncFreeTypeFontLoader.Parameters parameters = (AsyncFreeTypeFontLoader.Parameters) descriptor.params;
+            bake(generator, parameters.fontParameters, output);
+        }
+        generator.dispose();
+    }
+
+    private static void bake(FreeTypeFontGenerator generator, FreeTypeFontParameter fontParameters, FileHandle output) {
+        String key = Assets.fontKey(fontParameters);
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 1, false, new PixmapPacker.SkylineStrategy());
+        fontParameters.packer = packer;
+        FreeTypeBitmapFontData data = new FreeTypeBitmapFontData();
+        data.regions = new Array<>();                           // Left empty; no textures are made here
+        generator.generateData(fontParameters, data);
+        fontParameters.packer = null;
+
+        Array<PixmapPacker.Page> pages = packer.getPages();
+        String[] pageNames = new String[pages.size];
+        int height = 0;
+        for (int i = 0; i < pages.size; i++) {
+            pageNames[i] = key + "-" + i + ".png";
+            Pixmap page = cropped(pages.get(i));
+            height = Math.max(height, page.getHeight());
+            PixmapIO.writePNG(output.child(pageNames[i]), page);
+            page.dispose();
+        }
+
+        BitmapFontWriter.FontInfo info = new BitmapFontWriter.FontInfo(Assets.FONT_NAME, fontParameters.size);
+        info.overrideMetrics(data);                             // Same ascent, cap height, etc. as generated at run time
+        BitmapFontWriter.writeFont(data, pageNames, output.child(key + ".fnt"), info, PAGE_SIZE, height);
+        packer.dispose();
+        System.out.println("Baked " + key + " (" + pages.size + " page" + (pages.size == 1 ? ")" : "s)"));
+    }
+
+    /** The page without the empty rows below its last glyph; glyph coordinates stay valid since y starts at the top. */
+    private static Pixmap cropped(PixmapPacker.Page page) {
+        int used = 1;
+        for (Rectangle rect : page.getRects().values()) {
+            used = Math.max(used, (int) (rect.y + rect.height) + 1);   // Plus the packer's padding
+        }
+        Pixmap source = page.getPixmap();
+        Pixmap pixmap = new Pixmap(source.getWidth(), Math.min(used, source.getHeight()), source.getFormat());
+        pixmap.setBlending(Pixmap.Blending.None);
+        pixmap.drawPixmap(source, 0, 0);
+        return pixmap;
+    }
+}
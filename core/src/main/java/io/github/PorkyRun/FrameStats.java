@@ -0,0 +1,245 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-frame performance counters. The render thread is the only writer: it fills one row of a fixed ring buffer
+ * per frame and then publishes it by advancing a counter, so recording never locks or allocates. Readers on any
+ * thread copy rows out and drop any that were overwritten while they copied.
+ * <p>
+ * Besides the last {@link #CAPACITY} rows, frame times for the whole session go into a 0.1 ms histogram, which is
+ * what the p50/p99/max figures in {@link #export(FileHandle)} come from. Input latency, from a jump key event to
+ * the end of the frame that shows the jump, gets a histogram of its own.
+ */
+public class FrameStats {
+    public static final int CAPACITY = 4096;                    // Must be a power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final long BUCKET_NANOS = 100_000;           // 0.1 ms histogram buckets
+    private static final int BUCKETS = 1000;                    // Up to 100 ms; longer frames land in the last one
+
+    // One column per counter, indexed by frame number & MASK
+    private final long[] intervalNanos = new long[CAPACITY];
+    private final long[] workNanos = new long[CAPACITY];
+    private final int[] steps = new int[CAPACITY];
+    private final long[] droppedNanos = new long[CAPACITY];     // Real time the step cap skipped
+    private final int[] batchFlushes = new int[CAPACITY];
+    private final int[] drawCalls = new int[CAPACITY];          // -1 when the GL profiler was off
+    private final int[] textureBindings = new int[CAPACITY];
+    private final long[] gcMillis = new long[CAPACITY];
+    private final long[] inputLatencyNanos = new long[CAPACITY];  // -1 when no jump was shown that frame
+    private final AtomicLong published = new AtomicLong();
+
+    private final int[] histogram = new int[BUCKETS];
+    private long maxIntervalNanos = 0;
+    private final int[] latencyHistogram = new int[BUCKETS];
+    private long maxLatencyNanos = 0;
+
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private long lastGcMillis;
+    private long frameStart;
+    private long lastFrameStart;
+    private int pendingSteps;
+    private long pendingDroppedNanos;
+    private int pendingBatchFlushes;
+    private long pendingInputLatency;
+
+    public FrameStats() {
+        lastGcMillis = totalGcMillis();
+    }
+
+    public void beginFrame() {
+        lastFrameStart = frameStart;
+        frameStart = System.nanoTime();
+        pendingSteps = 0;
+        pendingDroppedNanos = 0;
+        pendingBatchFlushes = 0;
+        pendingInputLatency = -1;
+    }
+
+    /** Fixed-step iterations the catch-up loop ran this frame. */
+    public void addSteps(int count) {
+        pendingSteps += count;
+    }
+
+    /** Seconds of backlog the fixed-step scheduler dropped this frame instead of simulating. */
+    public void addDroppedTime(double seconds) {
+        pendingDroppedNanos += (long) (seconds * 1e9);
+    }
+
+    /** {@code SpriteBatch.renderCalls} after a batch pass ends this frame. */
+    public void addBatchFlushes(int count) {
+        pendingBatchFlushes += count;
+    }
+
+    /** Time from a jump's key event to the end of this frame, which is the first to show it. */
+    public void addInputLatency(long nanos) {
+        pendingInputLatency = nanos;
+    }
+
+    public void endFrame(int frameDrawCalls, int frameTextureBindings) {
+        long frame = published.get();
+        int row = (int) (frame & MASK);
+        long now = System.nanoTime();
+        long interval = lastFrameStart == 0 ? 0 : frameStart - lastFrameStart;
+        long gc = totalGcMillis();
+
+        intervalNanos[row] = interval;
+        workNanos[row] = now - frameStart;
+        steps[row] = pendingSteps;
+        droppedNanos[row] = pendingDroppedNanos;
+        batchFlushes[row] = pendingBatchFlushes;
+        drawCalls[row] = frameDrawCalls;
+        textureBindings[row] = frameTextureBindings;
+        gcMillis[row] = gc - lastGcMillis;
+        inputLatencyNanos[row] = pendingInputLatency;
+        lastGcMillis = gc;
+        published.lazySet(frame + 1);                           // Publish the row after it is fully written
+
+        if (interval > 0) {
+            histogram[(int) Math.min(BUCKETS - 1, interval / BUCKET_NANOS)]++;
+            maxIntervalNanos = Math.max(maxIntervalNanos, interval);
+        }
+        if (pendingInputLatency >= 0) {
+            latencyHistogram[(int) Math.min(BUCKETS - 1, pendingInputLatency / BUCKET_NANOS)]++;
+            maxLatencyNanos = Math.max(maxLatencyNanos, pendingInputLatency);
+        }
+    }
+
+    private long totalGcMillis() {
+        long total = 0;
+        for (int i = 0; i < collectors.size(); i++) {
+            total += Math.max(0, collectors.get(i).getCollectionTime());
+        }
+        return total;
+    }
+
+    public long getFrameCount() {
+        return published.get();
+    }
+
+    /** Row of the most recently published frame; callers must check {@link #getFrameCount()} is non-zero. */
+    public int latestRow() {
+        return (int) ((published.get() - 1) & MASK);
+    }
+
+    public float intervalMillis(int row) {
+        return intervalNanos[row] / 1e6f;
+    }
+
+    public float workMillis(int row) {
+        return workNanos[row] / 1e6f;
+    }
+
+    public int steps(int row) {
+        return steps[row];
+    }
+
+    public float droppedMillis(int row) {
+        return droppedNanos[row] / 1e6f;
+    }
+
+    public int batchFlushes(int row) {
+        return batchFlushes[row];
+    }
+
+    public int drawCalls(int row) {
+        return drawCalls[row];
+    }
+
+    public int textureBindings(int row) {
+        return textureBindings[row];
+    }
+
+    public long gcMillis(int row) {
+        return gcMillis[row];
+    }
+
+    /** Input latency of the jump first shown in the given frame, or a negative value if none was. */
+    public float inputLatencyMillis(int row) {
+        return inputLatencyNanos[row] / 1e6f;
+    }
+
+    /** Frame interval at the given percentile (0-100) over the whole session, to 0.1 ms resolution. */
+    public float percentileMillis(double percentile) {
+        return percentile(histogram, percentile, maxMillis());
+    }
+
+    public float maxMillis() {
+        return maxIntervalNanos / 1e6f;
+    }
+
+    /** Jump input latency at the given percentile (0-100) over the whole session, to 0.1 ms resolution. */
+    public float inputLatencyPercentileMillis(double percentile) {
+        return percentile(latencyHistogram, percentile, maxInputLatencyMillis());
+    }
+
+    public float maxInputLatencyMillis() {
+        return maxLatencyNanos / 1e6f;
+    }
+
+    /** Jumps whose latency was measured this session. */
+    public long getInputLatencyCount() {
+        long total = 0;
+        for (int count : latencyHistogram) total += count;
+        return total;
+    }
+
+    private static float percentile(int[] buckets, double percentile, float max) {
+        long total = 0;
+        for (int count : buckets) total += count;
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(percentile / 100 * total);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= Math.max(1, rank)) return (bucket + 1) * BUCKET_NANOS / 1e6f;
+        }
+        return max;
+    }
+
+    /** Writes {@code frames.csv} with the buffered rows and {@code summary.json} with session percentiles. */
+    public void export(FileHandle directory) throws IOException {
+        directory.mkdirs();
+        try (Writer csv = directory.child("frames.csv").writer(false, "UTF-8")) {
+            writeCsv(csv);
+        }
+        try (Writer json = directory.child("summary.json").writer(false, "UTF-8")) {
+            writeJson(json);
+        }
+    }
+
+    public void writeCsv(Writer writer) throws IOException {
+        writer.write("frame,interval_ms,work_ms,steps,dropped_ms,batch_flushes,draw_calls,texture_bindings,gc_ms,"
+            + "input_latency_ms\n");
+        long end = published.get();
+        long start = Math.max(0, end - CAPACITY + 1);           // The oldest row may be mid-overwrite already
+        for (long frame = start; frame < end; frame++) {
+            int row = (int) (frame & MASK);
+            String latency = inputLatencyNanos[row] < 0 ? "" : String.format(Locale.ROOT, "%.3f", inputLatencyMillis(row));
+            String line = String.format(Locale.ROOT, "%d,%.3f,%.3f,%d,%.3f,%d,%d,%d,%d,%s\n", frame,
+                intervalMillis(row), workMillis(row), steps[row], droppedMillis(row), batchFlushes[row], drawCalls[row],
+                textureBindings[row], gcMillis[row], latency);
+            // Once CAPACITY frames are published, the writer may already be filling this row for frame + CAPACITY
+            if (published.get() - frame >= CAPACITY) continue;
+            writer.write(line);
+        }
+    }
+
+    public void writeJson(Writer writer) throws IOException {
+        writer.write(String.format(Locale.ROOT,
+            "{\n  \"frames\": %d,\n  \"p50_ms\": %.1f,\n  \"p90_ms\": %.1f,\n  \"p99_ms\": %.1f,\n  \"max_ms\": %.3f,\n"
+                + "  \"jumps\": %d,\n  \"input_latency_p50_ms\": %.1f,\n  \"input_latency_p99_ms\": %.1f,\n"
+                + "  \"input_latency_max_ms\": %.3f\n}\n",
+            getFrameCount(), percentileMillis(50), percentileMillis(90), percentileMillis(99), maxMillis(),
+            getInputLatencyCount(), inputLatencyPercentileMillis(50), inputLatencyPercentileMillis(99),
+            maxInputLatencyMillis()));
+    }
+}
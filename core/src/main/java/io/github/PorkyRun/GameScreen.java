@@ -1,118 +1,169 @@
 package io.github.PorkyRun;
 
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.glutils.FrameBuffer;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Gdx;
-import java.util.Random;
 
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The running game. {@link Main} keeps one instance for the whole session and every {@link #show()} starts a new
+ * live session on it, so backgrounds are baked and the pattern thread started only once.
+ */
 public class GameScreen implements Screen {
 
-    private TextureRegion bgFrameBufferTextureRegion;
+    private final Main game;
+    private final RenderContext context;
+
+    private ParallaxBackground[] biomeBackgrounds;              // Indexed by Biome ordinal, all baked up front
     private Animation<TextureRegion> porkyAnimation;
-    private Array<Texture> cloudTextures;
-    private Pool<Obstacle> obstaclePool;
+    private Array<TextureAtlas.AtlasRegion> cloudRegions;
     private GlyphLayout gameOverLayout;
-    private Array<Obstacle> obstacles;
-    private FrameBuffer bgFrameBuffer;
-    private Array<Cloud> activeClouds;
-    private ShapeRenderer showHitbox;
+    private GlyphLayout restartLayout;
+    private EntityStore clouds;                                 // Region is an index into cloudRegions
+    private DebugDraw debugDraw;                                // Off unless toggled with F2; draws with the context's shapes
     private StretchViewport viewport;
     private BitmapFont gameOverFont;
-    private Texture gameOverTexture;
+    private TextureRegion gameOverRegion;
     private TextureRegion jumpFrame;
     private TextureRegion bumpFrame;
-    private Texture hayBaleTexture;
+    private final TextureRegion[] obstacleRegions = new TextureRegion[HitType.values().length];  // By kind
+    private TextureRegion particleRegion;
+    private ParticleSystem particles;
     private BitmapFont restartFont;
-    private Rectangle porkyHitbox;
-    private Pool<Cloud> cloudPool;
     private BitmapFont scoreFont;
+    private HudText scoreText;
     private TextureAtlas atlas;
     private SpriteBatch batch;
-    private Random random;
-    private Texture currentBgTexture;
-
-    private static final float FIXED_TIMESTEP = 1 / 60f;        // Set to 60 updates per second
-    private boolean restartBuffered = false;
-    private final float porkyHeight = 170;
-    private final float porkyWidth = 170;
-    private float obstacleSpawnTimer = 0;
-    private boolean jumpBuffered = false;
-    private boolean isGameOver = false;
-    private boolean isOnGround = true;
-    private float animationTime = 0;
-    private float accumulator = 0f;
-    private float velocity = 0;
-    private float porkyY = 0;                                   // Y-position for Porky
-    private int score = 0;
-    float porkyX = 0;                                           // X-Position for Porky
-
-
-    @Override
-    public void show() {
-        showHitbox = new ShapeRenderer();
-        gameOverLayout = new GlyphLayout();
-        gameOverFont = new BitmapFont();
-        batch = new SpriteBatch();
-        obstacles = new Array<>();
-        activeClouds = new Array<>();
-        random = new Random();
-
-        // Initialize FrameBuffer for background optimization
-        bgFrameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, 800, 500, false);
-
-        Texture jumpTexture = new Texture(Gdx.files.internal("porky_frames/jump.png"));
-        Texture bumpTexture = new Texture(Gdx.files.internal("porky_frames/bump.png"));
-        atlas = new TextureAtlas(Gdx.files.internal("porky-atlas.atlas"));
-        porkyHitbox = new Rectangle(porkyX, porkyY, porkyWidth, porkyHeight);
-        viewport = new StretchViewport(800, 500);
-        gameOverTexture = new Texture("game-over.png");
-        hayBaleTexture = new Texture("hay-bale.png");
-        jumpFrame = new TextureRegion(jumpTexture);
-        bumpFrame = new TextureRegion(bumpTexture);
+    private RandomXS128 random;                                 // Cosmetic randomness, reseeded from each run
+    private Biome biome;
+    private Biome previousBiome;                                // Fading out while biomeFade is below 1
+    private float biomeFade = 1;
+    private Simulation simulation;
+    private InputLog inputLog;                                  // Presses of the live session being recorded
+    private final InputQueue inputQueue = new InputQueue();     // Jump and restart presses, placed at their steps
+    private Replay replay;                                      // Set while watching a replay instead of playing
+    private final GhostTrack.Recorder ghostRecorder = new GhostTrack.Recorder();  // Kept if it is a new best
+    private GhostTrack.Player ghost;                            // The best run so far, raced alongside the live one
+    private int ghostScore = -1;                                // Score of the saved best run, -1 if there is none
+    private ExecutorService patternExecutor;                    // Builds upcoming obstacle chunks off the render thread
+
+    private static final String REPLAY_FILE = "replays/last.porky";
+    private static final String GHOST_FILE = "ghosts/best.ghost";
+    private static final float GHOST_OPACITY = 0.35f;
+
+    private static final float FIXED_TIMESTEP = Simulation.FIXED_TIMESTEP;
+    private static final float CLOUD_SIZE = 500;                // Clouds are drawn at their source size of 500x500
+    private static final int MAX_STEPS_PER_FRAME = 5;           // Catch up at most ~83 ms after a hitch
+    private static final float BIOME_FADE_TIME = 1f;            // Seconds to cross-fade into a new biome
+    private static final int DUST = 0, HAY = 1, TRAIL = 2;      // Particle emitters, see handleParticles()
+    private FixedStepScheduler scheduler;
+    private float stepAlpha = 0;                                // Progress towards the next step, for interpolation
+
+    public GameScreen(Main game) {
+        this.game = game;
+        game.getAssets().acquire(Assets.Group.GAME);
+        context = game.getRenderContext();
+        debugDraw = new DebugDraw(context.getShapes());
+        batch = context.getBatch();                             // Batch and shapes are borrowed from the render context
+        scheduler = new FixedStepScheduler(FIXED_TIMESTEP, MAX_STEPS_PER_FRAME);
+        clouds = new EntityStore(8);
+        patternExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "obstacle-patterns");
+            thread.setDaemon(true);
+            return thread;
+        });
+        random = new RandomXS128();
+
+        atlas = game.getAssets().getAtlas();                    // All sprites come from this one texture
+        viewport = context.getViewport();
+        gameOverRegion = atlas.findRegion("game-over");
+        obstacleRegions[HitType.OBSTACLE.ordinal()] = atlas.findRegion("hay-bale");
+        obstacleRegions[HitType.PICKUP.ordinal()] = atlas.findRegion("pickup");
+        particleRegion = atlas.findRegion("particle");
+        jumpFrame = atlas.findRegion("jump");
+        bumpFrame = atlas.findRegion("bump");
 
         handlePorkyAnimation();
-        createObstaclePool();
-        createCloudPool();
         handleFont();
         handleClouds();
         handleScoreFont();
+        handleHudText();
+        handleParticles();
         handleBg();
     }
 
     @Override
-    public void render(float delta) {
-        draw();
-        animationTime += FIXED_TIMESTEP;                        // Animation time for Porky
+    public void show() {
+        Gdx.input.setInputProcessor(inputQueue);
+        startLiveSession();                                     // Every visit from the menu is a new game
+    }
 
+    @Override
+    public void render(float delta) {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
+            if (replay == null && !simulation.isGameOver() && simulation.getRunTicks() > 0) {
+                recordRun(RunStore.Cause.QUIT);                 // Abandoned runs count too
+            }
+            game.showMenu();                                    // This screen stays cached for the next game
+            return;
+        }
         manageControls();
 
-        accumulator += delta;                                   // Accumulate delta time
-        while (accumulator >= FIXED_TIMESTEP) {
-            if (!isGameOver) {                                  // Only update game if not over
+        // Update first so the frame shows the latest state; clouds move on the same fixed clock
+        double droppedBefore = scheduler.getDroppedTime();
+        int steps = scheduler.advance(delta);
+        inputQueue.schedule(simulation.getTick(), steps, scheduler.getAlpha(), System.nanoTime());
+        for (int i = 0; i < steps; i++) {
+            boolean wasGameOver = simulation.isGameOver();
+            boolean wasOnGround = simulation.isOnGround();
+            if (replay != null) {
+                replay.step();                                  // Presses come from the log instead of the keyboard
+            } else {
+                inputQueue.apply(simulation);                   // Presses that happened during this step
+                simulation.step();
+                if (simulation.getJumpTick() == simulation.getTick()) inputQueue.jumpLaunched();
+            }
+            if (!wasGameOver) {                                 // Only update game if not over
                 logic();
-            } else if (restartBuffered) {
-                restartGame();                                  // Restart if 'R' is pressed
+                if (replay == null) stepGhostRace();
+                if (simulation.isGameOver() && replay == null) {
+                    saveReplay();
+                    recordRun(RunStore.Cause.OBSTACLE);
+                    endGhostRace();
+                }
+            } else if (!simulation.isGameOver()) {
+                restartGame();                                  // Simulation consumed the 'R' press
+            }
+            updateClouds();
+            updateParticles(wasGameOver, wasOnGround);
+            if (replay != null && replay.isFinished()) {
+                startLiveSession();                             // Back to playing once the replay has caught up
+                break;
             }
-            accumulator -= FIXED_TIMESTEP;
         }
+        game.getFrameStats().addSteps(steps);
+        game.getFrameStats().addDroppedTime(scheduler.getDroppedTime() - droppedBefore);
+        stepAlpha = scheduler.getAlpha();
+
+        draw(delta);
+        long latency = inputQueue.takeJumpLatency(System.nanoTime());
+        if (latency >= 0) game.getFrameStats().addInputLatency(latency);
     }
 
     @Override
     public void resize(int width, int height) {
-        viewport.update(width, height);
+        // The shared viewport is updated by Main
     }
 
     @Override
@@ -125,143 +176,185 @@ public class GameScreen implements Screen {
 
     @Override
     public void hide() {
+        Gdx.input.setInputProcessor(null);
+        closeGhost();
     }
 
     @Override
     public void dispose() {
-        currentBgTexture.dispose();
-        gameOverTexture.dispose();
-        hayBaleTexture.dispose();
-        bgFrameBuffer.dispose();
-        gameOverFont.dispose();
-        showHitbox.dispose();
-        batch.dispose();
-        atlas.dispose();
-        for (Obstacle obstacle : obstacles) {
-            obstacle.dispose();
-        }
-        for (Texture texture : cloudTextures) {
-            texture.dispose();
+        closeGhost();
+        patternExecutor.shutdown();                             // Lets a chunk in progress finish, then the thread ends
+        for (ParallaxBackground background : biomeBackgrounds) {
+            background.dispose();                               // Hands the framebuffers back to the pool
         }
+        game.getAssets().release(Assets.Group.GAME);
     }
 
-    private void draw() {
+    private void draw(float delta) {
         Gdx.gl.glClearColor(1, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-        viewport.apply();
-
-        spawnClouds();
+        context.apply();
 
         batch.begin();
-        // Draw background
-        batch.draw(bgFrameBufferTextureRegion, 0, 0, viewport.getWorldWidth(), viewport.getWorldHeight());
+        drawBackground();
 
+        // Sprites share the atlas texture, so draw them back to back before switching to font pages
         renderClouds();
-        drawScore();
         renderObstacles();
+        drawGhost();                                            // Under Porky, so he stays in front where they overlap
         managePorkyAnimation();
+        particles.draw(batch, particleRegion, stepAlpha, FIXED_TIMESTEP);
+        displayGameOverImage();
+        drawScore();
+        displayGameOverMessage();
+        game.getPerfOverlay().draw(batch, delta, 560, viewport.getWorldHeight() - 10);
         batch.end();
+        game.getFrameStats().addBatchFlushes(batch.renderCalls);
 
-        drawPorkyHitBox();
-        drawObstacleHitbox();
-        showHitbox.end();
-
-        displayGameOverMessage();
+        if (debugDraw.isEnabled()) {
+            debugDraw.draw(simulation, simulationAlpha());
+        }
     }
 
     private void logic() {
-        float gravity = -1500f;
-        int hitBoxOffsetX = 50;
-        int hitBoxOffsetY = 70;
-        int obstacleStartPosX = 800;
-        int obstacleStartPosY = 80;
-        int ground = 63;
-
-
-        // Handle jump input
-        if (jumpBuffered && isOnGround) {
-            velocity = 600;                                       // Set an upward velocity for the jump
-            isOnGround = false;                                   // Porky is no longer on the ground
-            jumpBuffered = false;                                 // Consume the jump input
+        // Update Background
+        Biome next = Biome.forScore(simulation.getScore());
+        if (next != biome) {
+            setBiome(next, true);                               // Once per biome change, not every step
+        }
+        if (biomeFade < 1) {
+            biomeFade = Math.min(1, biomeFade + FIXED_TIMESTEP / BIOME_FADE_TIME);
+            biomeBackgrounds[previousBiome.ordinal()].update(FIXED_TIMESTEP);
         }
+        biomeBackgrounds[biome.ordinal()].update(FIXED_TIMESTEP);
+    }
 
-        // Apply gravity and update Porky's position
-        velocity += gravity * FIXED_TIMESTEP;                     // Apply gravity to the velocity
-        porkyY += velocity * FIXED_TIMESTEP;                      // Update Porky's Y position
+    private void handleParticles() {
+        particles = new ParticleSystem(
+            // DUST: puffs out along the ground when Porky lands
+            new ParticleSystem.Emitter(128, 0.3f, 0.6f, 30, 90, 10, 170, -60, 14, 30, new Color(0.8f, 0.7f, 0.5f, 0.8f)),
+            // HAY: bursts from the bale Porky ran into and falls back down
+            new ParticleSystem.Emitter(256, 0.6f, 1.2f, 150, 400, 20, 160, -900, 10, 6, new Color(0.95f, 0.8f, 0.3f, 1)),
+            // TRAIL: kicked up behind Porky's feet while he runs
+            new ParticleSystem.Emitter(128, 0.25f, 0.45f, 60, 120, 150, 200, 40, 8, 18, new Color(0.85f, 0.75f, 0.55f, 0.5f)));
+    }
 
-        // Check if Porky has landed back on the ground
-        if (porkyY <= ground) {
-            porkyY = ground;
-            isOnGround = true;                                    // Porky is back on the ground
-            velocity = 0;                                         // Reset velocity
-        }
+    private void handleFont(){
+        gameOverFont = context.getFont(Assets.GAME_OVER_FONT);
+        restartFont = context.getFont(Assets.RESTART_FONT);
+    }
 
-        // Update Porky's hitbox position
-        porkyHitbox.setPosition(porkyX + hitBoxOffsetX, porkyY + hitBoxOffsetY);
-        porkyHitbox.setSize(60, 50);
-
-        // Spawn obstacles at intervals
-        obstacleSpawnTimer += FIXED_TIMESTEP;
-        float obstacleSpawnInterval = 3f;                                   // Time interval between obstacle spawns
-        if (obstacleSpawnTimer >= obstacleSpawnInterval) {
-            Obstacle obstacle = obstaclePool.obtain();
-            obstacle.setPosition(obstacleStartPosX,obstacleStartPosY);      // Set initial obstacle position
-            obstacles.add(obstacle);
-            obstacleSpawnTimer = 0;
+    private void handleBg() {
+        // Bake every biome's layers once; switching biomes or scrolling never redraws them
+        biomeBackgrounds = new ParallaxBackground[Biome.values().length];
+        for (Biome each : Biome.values()) {
+            biomeBackgrounds[each.ordinal()] = new ParallaxBackground(game.getAssets().get(each.background), each.layers, context);
         }
+        setBiome(Biome.FARM, false);                            // Default background
+    }
 
-        // Update and remove obstacles
-        for (int i = obstacles.size - 1; i >= 0; i--) {
-            Obstacle obstacle = obstacles.get(i);
-            obstacle.update(FIXED_TIMESTEP);
+    private void setBiome(Biome next, boolean fade) {
+        previousBiome = biome;
+        biome = next;
+        biomeFade = fade && previousBiome != null ? 0 : 1;
+        if (!fade) biomeBackgrounds[next.ordinal()].reset();
+    }
 
-            if (obstacle.isOffScreen()) {
-                obstacles.removeIndex(i);
-                obstaclePool.free(obstacle);                       // Return to pool
-                score++;
-            }
-        }
+    /** Starts a fresh, recorded session with a new seed. */
+    private void startLiveSession() {
+        replay = null;
+        inputQueue.clear();
+        simulation = new Simulation(new SimulationConfig(), System.nanoTime());
+        simulation.setBackgroundExecutor(patternExecutor);
+        inputLog = simulation.startRecording();
+        resetSession();
+        startGhostRace();
+    }
 
-        // Update Background
-        if (score == 5) {                                   // Change to "forest.png" when score reaches 10
-            currentBgTexture.dispose();                      // Dispose of the previous background to avoid memory leaks
-            currentBgTexture = new Texture("forest.png");
-            renderBackground();
+    /** Watches the last saved session; live play resumes when it ends. */
+    private void startReplay() {
+        FileHandle file = Gdx.files.local(REPLAY_FILE);
+        if (!file.exists()) return;
+        try {
+            replay = new Replay(InputLog.load(file));
+        } catch (IOException e) {
+            Gdx.app.error("GameScreen", "Could not load " + REPLAY_FILE, e);
+            return;
         }
+        simulation = replay.getSimulation();
+        simulation.setBackgroundExecutor(patternExecutor);
+        closeGhost();                                           // Replays are watched without a ghost
+        resetSession();
+    }
 
-        // Check for collisions
-        checkCollisions();
+    private void resetSession() {
+        scheduler.reset();
+        stepAlpha = 0;
+        clouds.clear();
+        random.setSeed(simulation.getRunSeed());                // Clouds replay exactly along with the run
+        particles.clear();
+        particles.setSeed(simulation.getRunSeed());
+        setBiome(Biome.FARM, false);
     }
 
-    private void handleFont(){
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("LuckiestGuy-Regular.ttf"));
-        FreeTypeFontParameter gameOverFontParam = new FreeTypeFontParameter();
-        FreeTypeFontParameter restartFontParam = new FreeTypeFontParameter();
+    private void recordRun(RunStore.Cause cause) {
+        game.getRunStore().record(new RunStore.Run(simulation.getRunSeed(), System.currentTimeMillis(),
+            simulation.getScore(), simulation.getRunTicks(), simulation.getPickups(), cause));
+    }
 
-        // Game-Over Text Configuration
-        gameOverFontParam.size = 80;
-        gameOverFontParam.color = Color.RED;
-        gameOverFont = generator.generateFont(gameOverFontParam);
+    /** Starts recording the new run and, if there is a saved best run, plays it back alongside. */
+    private void startGhostRace() {
+        closeGhost();
+        ghostRecorder.reset(simulation.getRunSeed());
+        FileHandle file = Gdx.files.local(GHOST_FILE);
+        if (!file.exists()) return;
+        try {
+            ghost = GhostTrack.Player.open(file);               // Streams the track step by step as it plays
+            ghostScore = ghost.getScore();
+        } catch (IOException e) {
+            Gdx.app.error("GameScreen", "Could not load " + GHOST_FILE, e);
+        }
+    }
 
-        // Restart Text Configuration
-        restartFontParam.size = 40;
-        restartFontParam.color = Color.YELLOW;
-        restartFont = generator.generateFont(restartFontParam);
+    private void stepGhostRace() {
+        ghostRecorder.record(simulation.getPorkyY(), porkyPose());
+        if (ghost == null) return;
+        try {
+            ghost.step();
+        } catch (IOException e) {
+            Gdx.app.error("GameScreen", "Could not read " + GHOST_FILE, e);
+            closeGhost();
+        }
+    }
 
+    /** Stops the ghost and keeps the run that just ended if it beat the saved one. */
+    private void endGhostRace() {
+        closeGhost();                                           // Lets the saved file be replaced
+        if (simulation.getScore() <= ghostScore) return;
+        try {
+            ghostRecorder.save(Gdx.files.local(GHOST_FILE), simulation.getScore());
+            ghostScore = simulation.getScore();
+        } catch (IOException e) {
+            Gdx.app.error("GameScreen", "Could not save " + GHOST_FILE, e);
+        }
+    }
 
-        generator.dispose();
+    private void closeGhost() {
+        if (ghost == null) return;
+        ghost.close();
+        ghost = null;
     }
 
-    private void handleBg() {
-        currentBgTexture = new Texture("newBackground.png"); // Default background
-        renderBackground();
+    private void saveReplay() {
+        try {
+            inputLog.save(Gdx.files.local(REPLAY_FILE));
+        } catch (IOException e) {
+            Gdx.app.error("GameScreen", "Could not save " + REPLAY_FILE, e);
+        }
     }
 
     private void handleClouds() {
-        cloudTextures = new Array<>();
-        cloudTextures.add(new Texture("clouds/1.png"));
-        cloudTextures.add(new Texture("clouds/2.png"));
-        cloudTextures.add(new Texture("clouds/3.png"));
+        cloudRegions = atlas.findRegions("cloud");
     }
 
     private void handlePorkyAnimation(){
@@ -270,176 +363,165 @@ public class GameScreen implements Screen {
     }
 
     private void handleScoreFont() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("LuckiestGuy-Regular.ttf"));
-        FreeTypeFontParameter scoreFontParam = new FreeTypeFontParameter();
-
-        // Score Text Configuration
-        scoreFontParam.size = 40;
-        scoreFontParam.color = Color.ORANGE;  // Set the color of the score
-        scoreFont = generator.generateFont(scoreFontParam);
-
-        generator.dispose();  // Dispose of the generator after use
+        scoreFont = context.getFont(Assets.SCORE_FONT);
     }
 
-    private void createObstaclePool(){
-        // Initialize Obstacle Pool (To Prevent Garbage Collection)
-        obstaclePool = new Pool<>() {
-            @Override
-            protected Obstacle newObject() {
-                return new Obstacle(800, 80, hayBaleTexture);      // X:800 Y:80 Obstacle spawn location
-            }
-        };
-    }
-
-    private void createCloudPool(){
-        cloudPool = new Pool<>() {
-            @Override
-            protected Cloud newObject() {
-                return new Cloud(); // Cloud without a texture
-            }
-        };
+    private void handleHudText() {
+        // Lay out the fixed overlay text once; only the score digits change while playing
+        gameOverLayout = new GlyphLayout(gameOverFont, "GAME OVER!");
+        restartLayout = new GlyphLayout(restartFont, "Press R to Restart");
+        scoreText = new HudText(scoreFont, "Score: ");
     }
 
     private void manageControls(){
-        // Handle input every frame
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-            jumpBuffered = true;
+        // Jump and restart arrive through the input queue; only screen toggles are polled once per frame
+        if (replay != null) {
+            inputQueue.clear();                                 // The replay's presses come from its log
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F9)) {
+            if (replay == null) {
+                startReplay();                                  // Watch the last saved session
+            } else {
+                startLiveSession();
+            }
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
-            restartBuffered = true;
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            game.getPerfOverlay().toggle();                     // Show or hide the performance overlay
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F2)) {
+            debugDraw.toggle();                                 // Show or hide hitboxes, velocities and the spawn point
         }
     }
 
     private void managePorkyAnimation(){
-        TextureRegion currentFrame;
-        if (!isOnGround) {
-            currentFrame = jumpFrame;   // Use the jump frame if Porky is in the air
+        // Animation follows simulation time, so it runs at the same speed at any refresh rate
+        TextureRegion currentFrame = poseFrame(porkyPose(), simulation.getTime() + stepAlpha * FIXED_TIMESTEP);
+        float porkyY = simulation.getPorkyY(simulationAlpha());
+        batch.draw(currentFrame, simulation.getPorkyX(), porkyY, Simulation.PORKY_WIDTH, Simulation.PORKY_HEIGHT);
+    }
+
+    private GhostTrack.Pose porkyPose() {
+        if (!simulation.isOnGround()) {
+            return GhostTrack.Pose.JUMP;    // Use the jump frame if Porky is in the air
         }
-        else if(isGameOver){
-            currentFrame = bumpFrame;   // Use the bump frame if game over
+        else if(simulation.isGameOver()){
+            return GhostTrack.Pose.BUMP;    // Use the bump frame if game over
         }
-        else {
-            // Use the running animation frame if Porky is on the ground
-            currentFrame = porkyAnimation.getKeyFrame(animationTime);
+        return GhostTrack.Pose.RUN;         // Use the running animation frame if Porky is on the ground
+    }
+
+    private TextureRegion poseFrame(GhostTrack.Pose pose, float time) {
+        switch (pose) {
+            case JUMP: return jumpFrame;
+            case BUMP: return bumpFrame;
+            default: return porkyAnimation.getKeyFrame(time);
         }
-        batch.draw(currentFrame, porkyX, porkyY, porkyWidth,porkyHeight);
     }
 
-    private void spawnClouds() {
+    private void drawGhost() {
+        // Same atlas page as Porky, so the ghost costs a few vertices but no texture switch or flush
+        if (ghost == null || ghost.getTick() == 0 || ghost.isFinished() || simulation.isGameOver()) return;
+        float time = (ghost.getTick() + stepAlpha) * FIXED_TIMESTEP;
+        batch.setColor(1, 1, 1, GHOST_OPACITY);
+        batch.draw(poseFrame(ghost.getPose(), time), simulation.getPorkyX(), ghost.getY(stepAlpha),
+            Simulation.PORKY_WIDTH, Simulation.PORKY_HEIGHT);
+        batch.setColor(Color.WHITE);
+    }
+
+    private void updateClouds() {
         // First Condition: // Only generate clouds if the background is not "forest"
         // Second Condition: Determine if a new cloud should spawn (you can adjust spawn frequency here)
-        if (!currentBgTexture.toString().contains("forest.png") && random.nextFloat() < 0.0020f) {                  // 0.10% chance per frame to spawn a new cloud
-            Cloud cloud = cloudPool.obtain();                                                                   // Get a cloud from the pool
-            Texture randomTexture = cloudTextures.random();                                                     // Randomly select a cloud texture
-            cloud.setTexture(randomTexture);                                                                    // Set the texture to the cloud
-
-            // Set cloud position and speed
-            cloud.setPosition(800, random.nextInt(30) + 170);   // Clouds start at right side, random Y-position
-            cloud.setSpeed(random.nextInt(20) + 30);                  // Random speed
+        if (biome.hasClouds && random.nextFloat() < 0.0020f) {                  // 0.20% chance per step to spawn a new cloud
+            int region = random.nextInt(cloudRegions.size);                                                     // Randomly select a cloud region
 
-            activeClouds.add(cloud);
+            // Clouds start at right side, random Y-position and speed
+            clouds.add(800, random.nextInt(30) + 170, CLOUD_SIZE, random.nextInt(20) + 30, region, 0);
         }
 
         // Update and remove clouds that are off-screen
-        for (int i = activeClouds.size - 1; i >= 0; i--) {
-            Cloud cloud = activeClouds.get(i);
-            cloud.update(FIXED_TIMESTEP);
+        clouds.update(FIXED_TIMESTEP);
+        if (!biome.hasClouds) {
+            clouds.clear();
+        } else {
+            clouds.removeOffScreen(0);
+        }
+    }
 
-            if (cloud.isOffScreen() || currentBgTexture.toString().contains("forest.png")) {
-                cloudPool.free(cloud);  // Return the cloud to the pool
-                activeClouds.removeIndex(i);  // Remove cloud from the active list
-            }
+    private void updateParticles(boolean wasGameOver, boolean wasOnGround) {
+        float porkyX = simulation.getPorkyX();
+        if (!wasGameOver && simulation.isGameOver()) {
+            Rectangle porkyHitbox = simulation.getPorkyHitbox();
+            particles.emit(HAY, porkyHitbox.x + porkyHitbox.width, porkyHitbox.y + porkyHitbox.height / 2, 40);
+        } else if (!wasGameOver && !wasOnGround && simulation.isOnGround()) {
+            particles.emit(DUST, porkyX + 85, Simulation.GROUND + 20, 12);
+        } else if (!simulation.isGameOver() && simulation.isOnGround() && simulation.getTick() % 4 == 0) {
+            particles.emit(TRAIL, porkyX + 55, Simulation.GROUND + 22, 1);
         }
+        particles.update(FIXED_TIMESTEP);                       // Keeps going after game over so the hay can settle
     }
 
     private void renderClouds() {
-        for (Cloud cloud : activeClouds) {
-            cloud.render(batch);
+        for (int i = 0; i < clouds.size(); i++) {
+            batch.draw(cloudRegions.get(clouds.getRegion(i)), clouds.getX(i, stepAlpha), clouds.getY(i), CLOUD_SIZE, CLOUD_SIZE);
         }
     }
 
     private void renderObstacles(){
-        // Draw each obstacle
-        for (Obstacle obstacle : obstacles) {
-            obstacle.render(batch);
+        // Draw each bale and pickup with the sprite for its kind
+        EntityStore obstacles = simulation.getObstacles();
+        float alpha = simulationAlpha();
+        for (int i = 0; i < obstacles.size(); i++) {
+            float size = Simulation.OBSTACLE_DRAW_SIZE;
+            batch.draw(obstacleRegions[obstacles.getKind(i)], obstacles.getX(i, alpha), obstacles.getY(i), size, size);
         }
     }
 
-    private void renderBackground() {
-        Sprite bgSprite = new Sprite(currentBgTexture);
-        bgSprite.setSize(viewport.getWorldWidth(), viewport.getWorldHeight());
-
-        bgFrameBuffer.begin();
-        Gdx.gl.glClearColor(1, 1, 1, 1);
-        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-
-        batch.begin();
-        bgSprite.draw(batch);
-        batch.end();
-
-        bgFrameBuffer.end();
-        bgFrameBufferTextureRegion = new TextureRegion(bgFrameBuffer.getColorBufferTexture());
-        bgFrameBufferTextureRegion.flip(false, true);           // Flip vertically to correct inversion
+    /** The simulation of the session on screen, live or replayed. */
+    Simulation getSimulation() {
+        return simulation;
     }
 
-    private void drawPorkyHitBox(){
-        // Draw hitbox using ShapeRenderer
-        showHitbox.begin(ShapeRenderer.ShapeType.Line);
-        showHitbox.setColor(0, 1, 0, 1);       // Green color for the hitbox
-        showHitbox.rect(porkyHitbox.x, porkyHitbox.y, porkyHitbox.width, porkyHitbox.height);
+    /** Interpolation for simulation state; once the game is over nothing moves, so show the last step as is. */
+    private float simulationAlpha() {
+        return simulation.isGameOver() ? 1 : stepAlpha;
     }
 
-    private void drawObstacleHitbox(){
-        // Draw hitbox for each obstacle
-        showHitbox.setColor(1, 0, 0, 1);       // Red color for obstacle hitbox
-        for (Obstacle obstacle : obstacles) {
-            Rectangle obstacleHitbox = obstacle.getHitbox();
-            showHitbox.rect(obstacleHitbox.x, obstacleHitbox.y, obstacleHitbox.width, obstacleHitbox.height);
+    private void drawBackground() {
+        float alpha = simulationAlpha();                        // Layers scroll with the simulation and stop with it
+        if (biomeFade < 1) {
+            // Cross-fade: the old biome underneath, the new one on top with rising opacity
+            float fade = Math.min(1, biomeFade + alpha * FIXED_TIMESTEP / BIOME_FADE_TIME);
+            biomeBackgrounds[previousBiome.ordinal()].draw(batch, alpha);
+            batch.setColor(1, 1, 1, fade);
+            biomeBackgrounds[biome.ordinal()].draw(batch, alpha);
+            batch.setColor(Color.WHITE);
+        } else {
+            biomeBackgrounds[biome.ordinal()].draw(batch, alpha);
         }
     }
 
     private void drawScore(){
-        String scoreText = "Score: " + score;  // The score display text
-        scoreFont.draw(batch, scoreText, 10, viewport.getWorldHeight() - 20);  // Draw in the top-left corner
+        scoreText.setValue(simulation.getScore());                     // Re-lays out only when the score changes
+        scoreText.draw(batch, 10, viewport.getWorldHeight() - 20);    // Draw in the top-left corner
+    }
+
+    private void displayGameOverImage() {
+        if (simulation.isGameOver()) {
+            batch.draw(gameOverRegion,360 ,25,300,300);         // Draw Lechon-Baboy Image
+        }
     }
 
     private void displayGameOverMessage() {
-        if (isGameOver) {
-            batch.begin();
-            batch.draw(gameOverTexture,360 ,25,300,300);        // Draw Lechon-Baboy Image
-
-            String gameOverText = "GAME OVER!";
-            String restartText = "Press R to Restart";
-            gameOverLayout.setText(gameOverFont, gameOverText);
-            gameOverLayout.setText(restartFont, restartText);
-            gameOverFont.draw(batch, gameOverText, 320, 370);
-            restartFont.draw(batch, restartText, 200, 70);
-            batch.end();
+        if (simulation.isGameOver()) {
+            gameOverFont.draw(batch, gameOverLayout, 320, 370);
+            restartFont.draw(batch, restartLayout, 200, 70);
         }
     }
 
     private void restartGame() {
-        isGameOver = false;
-        porkyX = 0;
-        porkyY = 90;            // Reset Porky to the ground position
-        velocity = 0;
-        obstacles.clear();
-        score = 0;
-
+        random.setSeed(simulation.getRunSeed());
+        if (replay == null) startGhostRace();
         // Reset the background to default
-        currentBgTexture.dispose(); // Dispose the current background
-        currentBgTexture = new Texture("newBackground.png");
-        renderBackground();
-    }
-
-    private void checkCollisions() {
-        for (Obstacle obstacle : obstacles) {
-            // Use the existing hitbox for collision detection
-            if (porkyHitbox.overlaps(obstacle.getHitbox())) {
-                isGameOver = true;
-                restartBuffered = false;
-                break;
-            }
-        }
+        setBiome(Biome.FARM, false);
     }
 }
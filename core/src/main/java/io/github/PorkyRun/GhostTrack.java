@@ -0,0 +1,178 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * Porky's height and pose on every step of one run, for racing a translucent ghost of the best run so far.
+ * <p>
+ * The file is a small header followed by one varint per step: the change in height, in eighths of a pixel and
+ * zigzag-encoded so small drops stay small, shifted left by two with the {@link Pose} below it. Running on the
+ * ground is a zero delta, so most steps take a single byte. {@link Recorder} keeps the current run's track in memory
+ * and writes it out when the run ends; {@link Player} reads a saved track one step at a time as it plays, so only a
+ * buffer's worth of it is ever in memory.
+ */
+public final class GhostTrack {
+    private static final int MAGIC = 0x504B4748;                // "PKGH"
+    private static final int VERSION = 1;
+    private static final float UNITS_PER_PIXEL = 8;
+    private static final int POSE_BITS = 2;
+    private static final Pose[] POSES = Pose.values();          // values() copies its array on every call
+
+    private GhostTrack() {
+    }
+
+    /** Which of Porky's frames a step shows. */
+    public enum Pose {
+        RUN,
+        JUMP,
+        BUMP
+    }
+
+    private static int quantize(float y) {
+        return Math.round(y * UNITS_PER_PIXEL);
+    }
+
+    /** Builds up the track of the run in progress. Appending does not allocate once the buffer has grown. */
+    public static final class Recorder {
+        private byte[] bytes = new byte[4096];
+        private int size = 0;
+        private int ticks = 0;
+        private int previous = 0;                               // Quantised height of the last step
+        private long seed;
+
+        /** Starts over for a new run with the given run seed. */
+        public void reset(long seed) {
+            this.seed = seed;
+            size = 0;
+            ticks = 0;
+            previous = 0;
+        }
+
+        public void record(float y, Pose pose) {
+            int height = quantize(y);
+            int delta = height - previous;
+            previous = height;
+            int zigzag = (delta << 1) ^ (delta >> 31);
+            int value = zigzag << POSE_BITS | pose.ordinal();
+            if (size + 5 > bytes.length) bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+            ticks++;
+        }
+
+        public int getTicks() {
+            return ticks;
+        }
+
+        /** Writes the track with its score, replacing {@code file} only once the new one is complete. */
+        public void save(FileHandle file, int score) throws IOException {
+            file.parent().mkdirs();
+            FileHandle temporary = file.sibling(file.name() + ".tmp");
+            try (OutputStream stream = temporary.write(false)) {
+                DataOutputStream out = new DataOutputStream(stream);
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeLong(seed);
+                out.writeInt(score);
+                out.writeInt(ticks);
+                out.write(bytes, 0, size);
+                out.flush();
+            }
+            Files.move(temporary.file().toPath(), file.file().toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /** Streams a saved track, one step per {@link #step()}. */
+    public static final class Player implements AutoCloseable {
+        private final DataInputStream in;
+        private final long seed;
+        private final int score;
+        private final int ticks;
+        private int tick = 0;
+        private int height = 0;
+        private float y;
+        private float previousY;
+        private Pose pose = Pose.RUN;
+
+        private Player(DataInputStream in) throws IOException {
+            this.in = in;
+            if (in.readInt() != MAGIC) throw new IOException("Not a Porky Run ghost track");
+            int version = in.readUnsignedByte();
+            if (version != VERSION) throw new IOException("Unsupported ghost track version: " + version);
+            seed = in.readLong();
+            score = in.readInt();
+            ticks = in.readInt();
+        }
+
+        /** Opens a track and reads its header; the steps are read as they are played. */
+        public static Player open(FileHandle file) throws IOException {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(file.read()));
+            try {
+                return new Player(in);
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+        }
+
+        /** Reads the next step; does nothing once the track is over. */
+        public void step() throws IOException {
+            if (isFinished()) return;
+            int value = InputLog.readVarint(in);
+            int zigzag = value >>> POSE_BITS;
+            height += (zigzag >>> 1) ^ -(zigzag & 1);
+            previousY = tick == 0 ? height / UNITS_PER_PIXEL : y;
+            y = height / UNITS_PER_PIXEL;
+            pose = POSES[value & ((1 << POSE_BITS) - 1)];
+            tick++;
+        }
+
+        /** True once every step has been played. */
+        public boolean isFinished() {
+            return tick >= ticks;
+        }
+
+        /** Steps played so far. */
+        public int getTick() {
+            return tick;
+        }
+
+        /** Height blended between the previous and current step; {@code alpha} 0 is the previous step. */
+        public float getY(float alpha) {
+            return previousY + (y - previousY) * alpha;
+        }
+
+        public Pose getPose() {
+            return pose;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        @Override
+        public void close() {
+            try {
+                in.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
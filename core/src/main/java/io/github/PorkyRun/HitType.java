@@ -0,0 +1,8 @@
+package io.github.PorkyRun;
+
+/** What Porky's hitbox touched, as reported by {@link Simulation#checkCollisions()}. */
+public enum HitType {
+    NONE,
+    OBSTACLE,                                                   // Ends the run
+    PICKUP                                                      // Collected and removed; the run goes on
+}
@@ -0,0 +1,74 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+
+/**
+ * A fixed prefix followed by an int, e.g. "Score: 12", drawn without per-frame garbage. The digits are written into
+ * a reusable char buffer and the text is only laid out again when the value actually changes.
+ */
+public class HudText implements CharSequence {
+    private static final int MAX_DIGITS = 11;                   // "-2147483648"
+
+    private final BitmapFont font;
+    private final GlyphLayout layout = new GlyphLayout();
+    private final char[] chars;
+    private final int prefixLength;
+    private int length;
+    private int value;
+    private boolean laidOut = false;
+
+    public HudText(BitmapFont font, String prefix) {
+        this.font = font;
+        prefixLength = prefix.length();
+        chars = new char[prefixLength + MAX_DIGITS];
+        prefix.getChars(0, prefixLength, chars, 0);
+    }
+
+    public void setValue(int value) {
+        if (laidOut && value == this.value) return;
+        this.value = value;
+        writeDigits(value);
+        layout.setText(font, this);
+        laidOut = true;
+    }
+
+    public void draw(Batch batch, float x, float y) {
+        font.draw(batch, layout, x, y);
+    }
+
+    private void writeDigits(int value) {
+        // Fill from the back of the buffer, then slide the digits up against the prefix
+        int end = chars.length;
+        int start = end;
+        long remaining = Math.abs((long) value);
+        do {
+            chars[--start] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (value < 0) chars[--start] = '-';
+        System.arraycopy(chars, start, chars, prefixLength, end - start);
+        length = prefixLength + end - start;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new String(chars, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Everything needed to reproduce a session bit for bit: the seed, the simulation config, and every button press
+ * keyed by the simulation tick it was applied at. A {@link Simulation} appends to it while recording and
+ * {@link Replay} feeds it back.
+ * <p>
+ * The binary form is a small header followed by one varint per event holding the tick delta shifted left by two
+ * with the button bits below it, so a typical run of a few hundred jumps fits in well under a kilobyte.
+ */
+public class InputLog {
+    public static final int JUMP = 1;
+    public static final int RESTART = 2;
+
+    private static final int MAGIC = 0x504B5259;                // "PKRY"
+    private static final int VERSION = 3;                       // 2 added the spawner, 3 jump buffer and coyote time
+    private static final int BUTTON_BITS = 2;
+
+    private final long seed;
+    private final SimulationConfig config;
+    private int[] ticks = new int[64];
+    private byte[] buttons = new byte[64];
+    private int size = 0;
+    private int endTick = 0;
+
+    public InputLog(long seed, SimulationConfig config) {
+        this.seed = seed;
+        this.config = new SimulationConfig(config);
+    }
+
+    /** Records a press applied before the step that takes the simulation past {@code tick}. */
+    public void add(int tick, int pressed) {
+        if (size > 0 && ticks[size - 1] == tick) {
+            buttons[size - 1] |= (byte) pressed;                // Several presses in one tick merge into one event
+        } else {
+            if (size > 0 && tick < ticks[size - 1]) throw new IllegalArgumentException("Ticks must not go backwards: " + tick);
+            if (size == ticks.length) {
+                ticks = Arrays.copyOf(ticks, size * 2);
+                buttons = Arrays.copyOf(buttons, size * 2);
+            }
+            ticks[size] = tick;
+            buttons[size] = (byte) pressed;
+            size++;
+        }
+        endTick = Math.max(endTick, tick);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public SimulationConfig getConfig() {
+        return new SimulationConfig(config);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int tick(int index) {
+        return ticks[index];
+    }
+
+    public int buttons(int index) {
+        return buttons[index];
+    }
+
+    /** Tick a replay runs to; recording keeps it at the simulation's latest tick. */
+    public int getEndTick() {
+        return endTick;
+    }
+
+    public void setEndTick(int endTick) {
+        this.endTick = Math.max(endTick, size > 0 ? ticks[size - 1] : 0);
+    }
+
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(seed);
+        out.writeFloat(config.gravity);
+        out.writeFloat(config.jumpVelocity);
+        out.writeFloat(config.obstacleSpawnInterval);
+        out.writeByte(config.spawner.ordinal());
+        out.writeShort(config.jumpBufferTicks);
+        out.writeShort(config.coyoteTicks);
+        writeVarint(out, endTick);
+        writeVarint(out, size);
+        int previous = 0;
+        for (int i = 0; i < size; i++) {
+            writeVarint(out, (ticks[i] - previous) << BUTTON_BITS | buttons[i]);
+            previous = ticks[i];
+        }
+        out.flush();
+    }
+
+    public static InputLog read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC) throw new IOException("Not a Porky Run input log");
+        int version = in.readUnsignedByte();
+        if (version < 1 || version > VERSION) throw new IOException("Unsupported input log version: " + version);
+        long seed = in.readLong();
+        SimulationConfig config = new SimulationConfig();
+        config.gravity = in.readFloat();
+        config.jumpVelocity = in.readFloat();
+        config.obstacleSpawnInterval = in.readFloat();
+        config.spawner = version >= 2 ? SimulationConfig.Spawner.values()[in.readUnsignedByte()]
+            : SimulationConfig.Spawner.INTERVAL;               // Logs from before patterns existed
+        if (version >= 3) {
+            config.jumpBufferTicks = in.readShort();
+            config.coyoteTicks = in.readShort();
+        } else {
+            config.jumpBufferTicks = -1;                        // Jumps used to stay buffered until landing
+            config.coyoteTicks = 0;
+        }
+        InputLog log = new InputLog(seed, config);
+        int endTick = readVarint(in);
+        int count = readVarint(in);
+        int tick = 0;
+        for (int i = 0; i < count; i++) {
+            int event = readVarint(in);
+            tick += event >>> BUTTON_BITS;
+            log.add(tick, event & ((1 << BUTTON_BITS) - 1));
+        }
+        log.setEndTick(endTick);
+        return log;
+    }
+
+    public void save(FileHandle file) throws IOException {
+        try (OutputStream out = file.write(false)) {
+            write(out);
+        }
+    }
+
+    public static InputLog load(FileHandle file) throws IOException {
+        try (InputStream in = file.read()) {
+            return read(in);
+        }
+    }
+
+    static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarint(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new EOFException();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+}
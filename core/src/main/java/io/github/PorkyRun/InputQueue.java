@@ -0,0 +1,103 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
+
+import java.util.Arrays;
+
+/**
+ * Gameplay key presses as timestamped events rather than polled state. The backend delivers them between frames;
+ * {@link #schedule} then places each one at the simulation step during which it happened, so when a frame runs
+ * several steps, a press only takes effect from its own step on, and the result does not depend on the frame rate.
+ * A press in the fraction of a step left over after the frame's last step goes to that last step instead of
+ * waiting a whole frame, and a frame that runs no steps keeps its presses for the next one.
+ * <p>
+ * It also times each jump from the key event to the end of the frame that first shows Porky leaving the ground.
+ */
+public class InputQueue extends InputAdapter {
+    private static final int UNSCHEDULED = -1;
+
+    private long[] times = new long[16];                        // Event time in System.nanoTime() terms
+    private int[] buttons = new int[16];                        // InputLog button bits
+    private int[] ticks = new int[16];                          // Tick to apply at, or UNSCHEDULED
+    private int size = 0;
+    private int next = 0;                                       // First event not yet applied
+    private long jumpPressNanos = -1;                           // Press behind the jump currently buffered
+    private long launchPressNanos = -1;                         // Press behind a jump launched this frame
+
+    @Override
+    public boolean keyDown(int keycode) {
+        int pressed;
+        if (keycode == Input.Keys.SPACE) {
+            pressed = InputLog.JUMP;
+        } else if (keycode == Input.Keys.R) {
+            pressed = InputLog.RESTART;
+        } else {
+            return false;
+        }
+        long time = Gdx.input.getCurrentEventTime();
+        add(pressed, time != 0 ? time : System.nanoTime());     // Backends without event times report 0
+        return true;
+    }
+
+    void add(int pressed, long nanos) {
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+            buttons = Arrays.copyOf(buttons, size * 2);
+            ticks = Arrays.copyOf(ticks, size * 2);
+        }
+        times[size] = nanos;
+        buttons[size] = pressed;
+        ticks[size] = UNSCHEDULED;
+        size++;
+    }
+
+    /**
+     * Assigns a tick to every waiting event, for a frame that is about to step from {@code firstTick} {@code steps}
+     * times, leaving {@code alpha} of a step over at real time {@code nowNanos}.
+     */
+    public void schedule(int firstTick, int steps, float alpha, long nowNanos) {
+        if (steps == 0) return;
+        double frameEnd = steps + alpha;                        // In steps from firstTick, matching nowNanos
+        for (int i = next; i < size; i++) {
+            if (ticks[i] != UNSCHEDULED) continue;
+            double at = frameEnd - (nowNanos - times[i]) / 1e9 / Simulation.FIXED_TIMESTEP;
+            ticks[i] = firstTick + (int) Math.max(0, Math.min(steps - 1, Math.floor(at)));
+        }
+    }
+
+    /** Presses every event scheduled up to the simulation's current tick; call it before each step. */
+    public void apply(Simulation simulation) {
+        while (next < size && ticks[next] != UNSCHEDULED && ticks[next] <= simulation.getTick()) {
+            simulation.press(buttons[next]);
+            if ((buttons[next] & InputLog.JUMP) != 0) jumpPressNanos = times[next];
+            next++;
+        }
+        if (next == size) {
+            next = 0;
+            size = 0;
+        }
+    }
+
+    /** Notes that the step just taken launched the buffered jump. */
+    public void jumpLaunched() {
+        launchPressNanos = jumpPressNanos;
+        jumpPressNanos = -1;
+    }
+
+    /** Nanoseconds from the press to now for a jump launched since the last call, or -1 if there was none. */
+    public long takeJumpLatency(long nowNanos) {
+        if (launchPressNanos < 0) return -1;
+        long latency = nowNanos - launchPressNanos;
+        launchPressNanos = -1;
+        return latency;
+    }
+
+    public void clear() {
+        size = 0;
+        next = 0;
+        jumpPressNanos = -1;
+        launchPressNanos = -1;
+    }
+}
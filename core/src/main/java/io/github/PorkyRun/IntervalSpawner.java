@@ -0,0 +1,25 @@
+package io.github.PorkyRun;
+
+/** The original spawn rule: one hay bale at the right edge every fixed interval. */
+public class IntervalSpawner implements ObstacleSpawner {
+    private final float interval;
+    private float obstacleSpawnTimer = 0;                       // Deliberately kept across restarts, as it always was
+
+    public IntervalSpawner(float interval) {
+        this.interval = interval;
+    }
+
+    @Override
+    public void spawn(Simulation simulation) {
+        // Spawn obstacles at intervals
+        obstacleSpawnTimer += Simulation.FIXED_TIMESTEP;
+        if (obstacleSpawnTimer >= interval) {
+            simulation.addObstacle(Simulation.OBSTACLE_START_X, Simulation.OBSTACLE_START_Y);
+            obstacleSpawnTimer = 0;
+        }
+    }
+
+    @Override
+    public void reset(long runSeed) {
+    }
+}
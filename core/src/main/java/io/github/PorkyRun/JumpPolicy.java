@@ -0,0 +1,63 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Decides, once per fixed step, whether a headless run should press jump. A policy instance belongs to a single
+ * run and may keep its own state; {@link Factory} creates one per run from that run's seed.
+ */
+public interface JumpPolicy {
+
+    boolean shouldJump(Simulation simulation, int tick);
+
+    interface Factory {
+        JumpPolicy create(long seed);
+    }
+
+    /** Never jumps, so every run ends at the first obstacle. */
+    static Factory idle() {
+        return seed -> (simulation, tick) -> false;
+    }
+
+    /** Presses jump on exactly the given ticks, which must be sorted ascending. The seed is ignored. */
+    static Factory scripted(int... jumpTicks) {
+        return seed -> new JumpPolicy() {
+            private int next = 0;
+
+            @Override
+            public boolean shouldJump(Simulation simulation, int tick) {
+                while (next < jumpTicks.length && jumpTicks[next] < tick) next++;
+                return next < jumpTicks.length && jumpTicks[next] == tick;
+            }
+        };
+    }
+
+    /** Presses jump with the given chance on every step, seeded per run. */
+    static Factory random(float chancePerTick) {
+        return seed -> {
+            RandomXS128 random = new RandomXS128(seed);
+            return (simulation, tick) -> random.nextFloat() < chancePerTick;
+        };
+    }
+
+    /**
+     * Jumps when the nearest obstacle ahead of Porky's hitbox is closer than a reaction distance. The distance is
+     * the given base plus a seeded jitter of up to {@code jitter} in either direction, picked once per run.
+     */
+    static Factory reactive(float distance, float jitter) {
+        return seed -> {
+            float reaction = distance + (new RandomXS128(seed).nextFloat() * 2 - 1) * jitter;
+            return (simulation, tick) -> {
+                Rectangle porky = simulation.getPorkyHitbox();
+                float porkyRight = porky.x + porky.width;
+                EntityStore obstacles = simulation.getObstacles();
+                for (int i = 0; i < obstacles.size(); i++) {
+                    float gap = obstacles.getHitX(i) - porkyRight;
+                    if (gap >= 0 && gap < reaction) return true;
+                }
+                return false;
+            };
+        };
+    }
+}
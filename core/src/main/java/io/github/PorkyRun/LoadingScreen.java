@@ -0,0 +1,67 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+/**
+ * Shown while {@link Assets} loads. {@link Main} spends a fixed time budget per frame on loading so the window stays
+ * responsive; this draws a progress bar and moves on to the menu as soon as the menu's own assets are ready, leaving
+ * the game's to finish loading behind it.
+ */
+public class LoadingScreen implements Screen {
+    private final Main game;
+    private float shownProgress = 0;
+
+    public LoadingScreen(Main game) {
+        this.game = game;
+    }
+
+    @Override
+    public void show() {
+    }
+
+    @Override
+    public void render(float delta) {
+        boolean finished = game.getAssets().isLoaded(Assets.Group.MENU);
+        float progress = game.getAssets().getProgress(Assets.Group.MENU);
+        shownProgress += (progress - shownProgress) * Math.min(1, delta * 10);  // Ease the bar
+
+        Gdx.gl.glClearColor(0.53f, 0.81f, 0.92f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        game.getRenderContext().apply();
+        ShapeRenderer shapes = game.getRenderContext().getShapes();
+
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(1, 1, 1, 1);
+        shapes.rect(196, 226, 408, 48);                         // Bar outline
+        shapes.setColor(1, 0.6f, 0.7f, 1);
+        shapes.rect(200, 230, 400 * shownProgress, 40);         // Porky pink fill
+        shapes.end();
+
+        if (finished) {
+            game.showMenu();                                    // Nothing to dispose, the renderers are shared
+        }
+    }
+
+    @Override
+    public void resize(int width, int height) {
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+
+    @Override
+    public void hide() {
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
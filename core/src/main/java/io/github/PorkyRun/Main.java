@@ -1,11 +1,138 @@
 package io.github.PorkyRun;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+import java.io.IOException;
 
 /** {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms. */
 public class Main extends Game {
+    /** When set, frame stats are written to this directory on exit. */
+    public static final String PERF_EXPORT_PROPERTY = "porkyrun.perfDir";
+    private static final int LOAD_BUDGET_MILLIS = 10;          // Time per frame given to the asset manager
+    private static final String RUNS_DIRECTORY = "runs";
+
+    private Assets assets;
+    private RenderContext renderContext;
+    private FirstScreen menuScreen;                             // Created on first use, then kept for the session
+    private GameScreen gameScreen;
+    private FrameStats frameStats;
+    private GLProfiler glProfiler;
+    private PerfOverlay perfOverlay;
+    private boolean exportingStats;                             // Frame stats are written out on exit
+    private TrainingDriver trainingDriver;                      // Only set for a scripted training run
+    private RunStore runStore;
+
     @Override
     public void create() {
-        setScreen(new FirstScreen(this));
+        frameStats = new FrameStats();
+        runStore = new RunStore(Gdx.files.local(RUNS_DIRECTORY).file());  // Reads its files in the background
+        glProfiler = new GLProfiler(Gdx.graphics);              // Counts draw calls and texture binds, when enabled
+        exportingStats = System.getProperty(PERF_EXPORT_PROPERTY) != null;
+
+        // Main holds a reference on everything for the whole session, so screens never reload assets. The menu is
+        // queued first so it can be shown as soon as its own assets are in; the game's keep loading behind it
+        assets = new Assets();
+        assets.acquire(Assets.Group.MENU);
+        assets.acquire(Assets.Group.GAME);
+        renderContext = new RenderContext(assets);
+        perfOverlay = new PerfOverlay(frameStats, renderContext.getDebugFont());
+        if (TrainingDriver.isEnabled()) trainingDriver = new TrainingDriver(this);
+        setScreen(new LoadingScreen(this));
+    }
+
+    @Override
+    public void render() {
+        boolean profiling = updateProfiler();
+        frameStats.beginFrame();
+        assets.update(LOAD_BUDGET_MILLIS);                      // Returns right away once nothing is queued
+        super.render();
+        if (profiling) {
+            frameStats.endFrame(glProfiler.getDrawCalls(), glProfiler.getTextureBindings());
+            glProfiler.reset();
+        } else {
+            frameStats.endFrame(-1, -1);                        // Not counted this frame
+        }
+        BootTimer.firstFrame();
+        if (trainingDriver != null) trainingDriver.update();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        renderContext.resize(width, height);                    // Shared by every screen, cached ones included
+        super.resize(width, height);
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        if (menuScreen != null) menuScreen.dispose();
+        if (gameScreen != null) gameScreen.dispose();
+        exportFrameStats();
+        runStore.dispose();                                     // Finishes any run still being written
+        renderContext.dispose();
+        assets.dispose();
+    }
+
+    /** Switches to the menu, reusing it if it was shown before. */
+    public void showMenu() {
+        if (menuScreen == null) menuScreen = new FirstScreen(this);
+        setScreen(menuScreen);
+        BootTimer.menuShown();
+    }
+
+    /** Switches to the game, reusing it if it was shown before; every switch starts a new session. */
+    public void showGame() {
+        if (!assets.isLoaded(Assets.Group.GAME)) {
+            assets.finishLoading();                             // Only if the menu was left within the first moments
+        }
+        if (gameScreen == null) gameScreen = new GameScreen(this);
+        setScreen(gameScreen);
+    }
+
+    /**
+     * The profiler wraps every GL call in an error check, which stalls on the GPU, so it is only on while its counts
+     * are shown or exported. It is switched outside the timed part of the frame. Returns whether it is on.
+     */
+    private boolean updateProfiler() {
+        boolean wanted = perfOverlay.isVisible() || exportingStats;
+        if (wanted && !glProfiler.isEnabled()) {
+            glProfiler.enable();
+            glProfiler.reset();
+        } else if (!wanted && glProfiler.isEnabled()) {
+            glProfiler.disable();
+        }
+        return wanted;
+    }
+
+    private void exportFrameStats() {
+        String directory = System.getProperty(PERF_EXPORT_PROPERTY);
+        if (directory == null) return;
+        try {
+            frameStats.export(Gdx.files.absolute(directory));
+        } catch (IOException e) {
+            Gdx.app.error("Main", "Could not write frame stats to " + directory, e);
+        }
+    }
+
+    public Assets getAssets() {
+        return assets;
+    }
+
+    public RenderContext getRenderContext() {
+        return renderContext;
+    }
+
+    public RunStore getRunStore() {
+        return runStore;
+    }
+
+    public FrameStats getFrameStats() {
+        return frameStats;
+    }
+
+    public PerfOverlay getPerfOverlay() {
+        return perfOverlay;
     }
 }
@@ -1,14 +1,35 @@
 package io.github.PorkyRun;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.tools.texturepacker.TexturePacker;
 
+/**
+ * Build-time packing step: puts every sprite in {@code raw-assets/sprites} into the single {@code porky-atlas}, so a
+ * frame binds one texture for all of them. Font pages are not packed; {@link FontBaker} writes them to
+ * {@code assets/fonts} as their own textures, so the HUD text costs one more bind per frame.
+ * Names ending in {@code _N} become indexed regions, e.g. {@code run_1.png} is region "run" with index 1.
+ * <p>
+ * Two variants are written: the full-size atlas, with mipmaps generated at load time so the 500x500 frames minify
+ * cleanly to their on-screen size, and a half-size {@code -small} atlas for windows no taller than the 800x500
+ * viewport. Run it with {@code ./gradlew core:packTextures}.
+ */
 public class MyTexturePacker {
+    public static final float SMALL_SCALE = 0.5f;
+    public static final String SMALL_SUFFIX = "-small";
+
     public static void main(String[] args) {
         TexturePacker.Settings settings = new TexturePacker.Settings();
         settings.maxWidth = 2048;  // Adjust as necessary
         settings.maxHeight = 2048;
         settings.paddingX = 2;    // Padding between images
         settings.paddingY = 2;
-        TexturePacker.process(settings, "assets/porky_frames", "assets", "porky-atlas");
+        settings.combineSubdirectories = true;    // Everything under raw-assets shares one page
+        settings.flattenPaths = true;             // Region names without the sprites/ prefix
+        settings.filterMin = Texture.TextureFilter.MipMapLinearNearest;
+        settings.filterMag = Texture.TextureFilter.Linear;
+        TexturePacker.process(settings, "raw-assets", "assets", "porky-atlas");
+
+        settings.scale = new float[] {SMALL_SCALE};
+        TexturePacker.process(settings, "raw-assets", "assets", "porky-atlas" + SMALL_SUFFIX);
     }
 }
@@ -0,0 +1,24 @@
+package io.github.PorkyRun;
+
+import java.util.concurrent.ExecutorService;
+
+/** Decides when and where obstacles enter a {@link Simulation}'s field. */
+public interface ObstacleSpawner {
+    /** Called once per step while the game runs, before obstacles move. */
+    void spawn(Simulation simulation);
+
+    /** Called when a run starts, with the seed everything random in that run derives from. */
+    void reset(long runSeed);
+
+    /** Lets the spawner do expensive work ahead of time on a single-threaded background executor. */
+    default void setExecutor(ExecutorService executor) {
+    }
+
+    static ObstacleSpawner create(SimulationConfig config) {
+        switch (config.spawner) {
+            case INTERVAL: return new IntervalSpawner(config.obstacleSpawnInterval);
+            case PATTERNS: return new PatternSpawner(new PatternGenerator(config));
+            default: throw new IllegalArgumentException("Unknown spawner: " + config.spawner);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * A biome background split into horizontal bands that scroll at different speeds. Each band is baked once into its
+ * own power-of-two framebuffer with repeat wrapping, so scrolling is only a change of texture coordinates: one quad
+ * per layer per frame. The bake cross-fades each band's right edge into its left, so the wrap has no seam. The
+ * framebuffers come from the {@link RenderContext} pool and go back to it on {@link #dispose()}.
+ */
+public class ParallaxBackground implements Disposable {
+    private static final int BAKE_WIDTH = 1024;                 // Power of two, so the wrap works on GLES2 as well
+    private static final int SEAM_WIDTH = 128;                  // Baked pixels over which the wrap is cross-faded
+
+    private final RenderContext context;
+    private final FrameBuffer[] layers;
+    private final Layer[] specs;
+    private final float[] offset;                               // Scroll in tiles; one tile is one world width
+    private final float[] advance;                              // Offset added by the last update, for interpolation
+    private final float worldWidth;
+    private final float worldHeight;
+
+    /** One band of the source image, from {@code top} to {@code bottom} as fractions of its height. */
+    public static class Layer {
+        final float top;
+        final float bottom;
+        final float speed;                                      // World pixels per second to the left
+
+        public Layer(float top, float bottom, float speed) {
+            this.top = top;
+            this.bottom = bottom;
+            this.speed = speed;
+        }
+    }
+
+    /** Bakes every layer of {@code source} with the context's batch, which must not be drawing. */
+    public ParallaxBackground(Texture source, Layer[] specs, RenderContext context) {
+        this.context = context;
+        this.specs = specs;
+        this.worldWidth = context.getViewport().getWorldWidth();
+        this.worldHeight = context.getViewport().getWorldHeight();
+        Batch batch = context.getBatch();
+        layers = new FrameBuffer[specs.length];
+        offset = new float[specs.length];
+        advance = new float[specs.length];
+
+        Matrix4 projection = batch.getProjectionMatrix().cpy();
+        int srcFunc = batch.getBlendSrcFunc();
+        int dstFunc = batch.getBlendDstFunc();
+        int srcFuncAlpha = batch.getBlendSrcFuncAlpha();
+        int dstFuncAlpha = batch.getBlendDstFuncAlpha();
+        // Faded pixels blend their colour but keep the band opaque, or the seam would show through on screen
+        batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE,
+            GL20.GL_ONE_MINUS_SRC_ALPHA);
+        for (int i = 0; i < specs.length; i++) {
+            int srcY = Math.round(specs[i].top * source.getHeight());
+            int srcHeight = Math.round(specs[i].bottom * source.getHeight()) - srcY;
+            int height = MathUtils.nextPowerOfTwo(Math.max(16, srcHeight * BAKE_WIDTH / source.getWidth()));
+
+            layers[i] = context.obtainFrameBuffer(BAKE_WIDTH, height);
+            layers[i].begin();
+            Gdx.gl.glClearColor(0, 0, 0, 0);
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+            batch.getProjectionMatrix().setToOrtho2D(0, 0, BAKE_WIDTH, height);
+            batch.begin();
+            // The band is stretched a little wider than the texture, and what hangs off the right edge is faded in
+            // over the left, so the last column runs on into the first
+            batch.draw(source, 0, 0, BAKE_WIDTH + SEAM_WIDTH, height, 0, srcY, source.getWidth(), srcHeight,
+                false, false);
+            drawSeam(batch, source, (float) BAKE_WIDTH / (BAKE_WIDTH + SEAM_WIDTH),
+                (float) (srcY + srcHeight) / source.getHeight(), (float) srcY / source.getHeight(), height);
+            batch.end();
+            layers[i].end();
+
+            Texture texture = layers[i].getColorBufferTexture();
+            texture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.ClampToEdge);
+            texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+        batch.setProjectionMatrix(projection);
+        batch.setBlendFunctionSeparate(srcFunc, dstFunc, srcFuncAlpha, dstFuncAlpha);
+    }
+
+    /**
+     * Draws source columns from {@code u} to its right edge over the first {@link #SEAM_WIDTH} baked pixels, opaque
+     * at x 0 and fading out towards the right. {@code v} is the band's bottom row and {@code v2} its top.
+     */
+    private static void drawSeam(Batch batch, Texture source, float u, float v, float v2, float height) {
+        float opaque = Color.toFloatBits(1f, 1f, 1f, 1f);
+        float clear = Color.toFloatBits(1f, 1f, 1f, 0f);
+        float[] quad = {
+            0, 0, opaque, u, v,
+            0, height, opaque, u, v2,
+            SEAM_WIDTH, height, clear, 1, v2,
+            SEAM_WIDTH, 0, clear, 1, v,
+        };
+        batch.draw(source, quad, 0, quad.length);
+    }
+
+    public void update(float delta) {
+        for (int i = 0; i < specs.length; i++) {
+            advance[i] = specs[i].speed * delta / worldWidth;
+            offset[i] = (offset[i] + advance[i]) % 1;          // Keeps u small; Repeat wraps every width
+        }
+    }
+
+    public void reset() {
+        for (int i = 0; i < specs.length; i++) {
+            offset[i] = 0;
+            advance[i] = 0;
+        }
+    }
+
+    /** Draws every layer, {@code alpha} of the way from the previous update to the latest one. */
+    public void draw(Batch batch, float alpha) {
+        for (int i = 0; i < specs.length; i++) {
+            float u = offset[i] - advance[i] * (1 - alpha);
+            float y = (1 - specs[i].bottom) * worldHeight;
+            float height = (specs[i].bottom - specs[i].top) * worldHeight;
+            // Framebuffer textures are stored bottom-up, hence v runs from 0 at the bottom to 1 at the top
+            batch.draw(layers[i].getColorBufferTexture(), 0, y, worldWidth, height, u, 0, u + 1, 1);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        for (FrameBuffer layer : layers) {
+            context.free(layer);
+        }
+    }
+}
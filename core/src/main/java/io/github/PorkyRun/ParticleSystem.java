@@ -0,0 +1,137 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * Small effects (dust, hay, trails) as parallel primitive arrays sized once from the emitters' caps. Emitting past
+ * an emitter's cap is dropped rather than grown, and dead particles are swap-removed, so after construction the
+ * system never allocates. Every particle is the same tinted region, drawn back to back in the caller's batch.
+ */
+public class ParticleSystem {
+    private final Emitter[] emitters;
+    private final int[] live;                                   // Live particles per emitter
+    private final RandomXS128 random = new RandomXS128();
+
+    private final float[] x, y, vx, vy;
+    private final float[] age, life;
+    private final byte[] emitter;
+    private int size = 0;
+
+    /** How one kind of particle is spawned and how it moves, fades and shrinks. */
+    public static class Emitter {
+        final int cap;
+        final float minLife, maxLife;                           // Seconds
+        final float minSpeed, maxSpeed;                         // World pixels per second
+        final float minAngle, maxAngle;                         // Degrees, counter-clockwise from +x
+        final float gravity;                                    // Vertical acceleration, negative is down
+        final float startSize, endSize;
+        final float r, g, b, a;
+
+        public Emitter(int cap, float minLife, float maxLife, float minSpeed, float maxSpeed, float minAngle,
+                       float maxAngle, float gravity, float startSize, float endSize, Color color) {
+            this.cap = cap;
+            this.minLife = minLife;
+            this.maxLife = maxLife;
+            this.minSpeed = minSpeed;
+            this.maxSpeed = maxSpeed;
+            this.minAngle = minAngle;
+            this.maxAngle = maxAngle;
+            this.gravity = gravity;
+            this.startSize = startSize;
+            this.endSize = endSize;
+            r = color.r;
+            g = color.g;
+            b = color.b;
+            a = color.a;
+        }
+    }
+
+    /** Emitters are referred to by their index in {@code emitters}; there can be up to 127. */
+    public ParticleSystem(Emitter... emitters) {
+        this.emitters = emitters;
+        live = new int[emitters.length];
+        int capacity = 0;
+        for (Emitter each : emitters) capacity += each.cap;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        age = new float[capacity];
+        life = new float[capacity];
+        emitter = new byte[capacity];
+    }
+
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    /** Spawns up to {@code count} particles at a point; whatever would exceed the emitter's cap is dropped. */
+    public void emit(int index, float originX, float originY, int count) {
+        Emitter spec = emitters[index];
+        int n = Math.min(count, spec.cap - live[index]);
+        for (int k = 0; k < n; k++) {
+            int i = size++;
+            float angle = MathUtils.lerp(spec.minAngle, spec.maxAngle, random.nextFloat());
+            float speed = MathUtils.lerp(spec.minSpeed, spec.maxSpeed, random.nextFloat());
+            x[i] = originX;
+            y[i] = originY;
+            vx[i] = MathUtils.cosDeg(angle) * speed;
+            vy[i] = MathUtils.sinDeg(angle) * speed;
+            age[i] = 0;
+            life[i] = MathUtils.lerp(spec.minLife, spec.maxLife, random.nextFloat());
+            emitter[i] = (byte) index;
+        }
+        live[index] += n;
+    }
+
+    public void update(float delta) {
+        for (int i = 0; i < size; i++) {
+            vy[i] += emitters[emitter[i]].gravity * delta;
+            x[i] += vx[i] * delta;
+            y[i] += vy[i] * delta;
+            age[i] += delta;
+        }
+        for (int i = size - 1; i >= 0; i--) {                   // Backwards, so the particle swapped in was already checked
+            if (age[i] >= life[i]) remove(i);
+        }
+    }
+
+    private void remove(int i) {
+        live[emitter[i]]--;
+        int last = --size;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        age[i] = age[last];
+        life[i] = life[last];
+        emitter[i] = emitter[last];
+    }
+
+    /** Draws every particle, backed off {@code 1 - alpha} of a step so they line up with interpolated sprites. */
+    public void draw(Batch batch, TextureRegion region, float alpha, float step) {
+        float back = (1 - alpha) * step;
+        for (int i = 0; i < size; i++) {
+            Emitter spec = emitters[emitter[i]];
+            float t = age[i] / life[i];
+            float particleSize = MathUtils.lerp(spec.startSize, spec.endSize, t);
+            float half = particleSize / 2;
+            batch.setColor(spec.r, spec.g, spec.b, spec.a * (1 - t));
+            batch.draw(region, x[i] - vx[i] * back - half, y[i] - vy[i] * back - half, particleSize, particleSize);
+        }
+        batch.setColor(Color.WHITE);
+    }
+
+    public void clear() {
+        size = 0;
+        for (int i = 0; i < live.length; i++) live[i] = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+}
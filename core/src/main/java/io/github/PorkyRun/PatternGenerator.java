@@ -0,0 +1,229 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * Plans obstacles as a stream of seeded chunks. Each chunk holds a few groups (single hay bales or doubles that
+ * need one long jump), separated by gaps and moving at speeds that all follow a difficulty curve. The curve is
+ * driven by how many obstacles were planned before a group, which is the score Porky has when he reaches it.
+ * <p>
+ * Every group is checked against the jump physics before it is accepted: the generator replays the exact float
+ * steps of {@link Simulation} to find when each bale overlaps Porky horizontally and when a jump keeps him above
+ * it, then greedily schedules jumps. A group that cannot be cleared is retried a bounded number of times and
+ * finally replaced by a single slow bale placed where the schedule has room, so every chunk is clearable and takes
+ * at most {@code GROUPS_PER_CHUNK * MAX_ATTEMPTS} cheap table lookups to build.
+ * <p>
+ * A chunk depends only on the run seed, its index and the {@link Stream} state left by the chunk before it, so
+ * chunks can be built ahead of time on another thread without changing what a run looks like.
+ */
+public class PatternGenerator {
+    private static final int GROUPS_PER_CHUNK = 4;
+    private static final int MAX_ATTEMPTS = 4;                  // Then fall back to a bale that always fits
+    private static final int FIRST_SPAWN_STEP = 180;            // Same 3 s grace the interval spawner gives
+    private static final int FULL_DIFFICULTY_SCORE = 60;
+    private static final float MIN_SPEED = 400;
+    private static final float SPEED_STEP = 20;
+    private static final int SPEEDS = 11;                       // 400 to 600 px/s
+    private static final int MAX_AIR_STEPS = 600;
+
+    private final int clearFrom;                                // Steps after the jump step during which a bale passes under
+    private final int clearTo;
+    private final int landing;                                  // Step after the jump step on which Porky is grounded again
+    private final int[] overlapFrom = new int[SPEEDS];          // Steps after spawning that a bale overlaps Porky in x
+    private final int[] overlapTo = new int[SPEEDS];
+    private final int[] doubleSpacing = new int[SPEEDS];        // Steps between the two bales of a double
+
+    public PatternGenerator(SimulationConfig config) {
+        // Jump profile, stepped exactly as Simulation.logic() does
+        float velocity = config.jumpVelocity;
+        float y = Simulation.GROUND;
+        int from = -1, to = -1, land = MAX_AIR_STEPS;
+        for (int step = 0; step < MAX_AIR_STEPS; step++) {
+            velocity += config.gravity * Simulation.FIXED_TIMESTEP;
+            y += velocity * Simulation.FIXED_TIMESTEP;
+            if (y <= Simulation.GROUND) {
+                land = step;
+                break;
+            }
+            if (clearsGroundBale(y)) {
+                if (from < 0) from = step;
+                to = step;
+            }
+        }
+        clearFrom = from;
+        clearTo = to;
+        landing = land;
+
+        // Horizontal overlap window per speed, stepped exactly as EntityStore.update() does
+        for (int i = 0; i < SPEEDS; i++) {
+            float speed = speed(i);
+            float x = Simulation.OBSTACLE_START_X;
+            overlapFrom[i] = -1;
+            for (int step = 0; ; step++) {
+                x -= speed * Simulation.FIXED_TIMESTEP;
+                float hitX = x + Simulation.OBSTACLE_HITBOX_OFFSET_X;
+                float porkyX = Simulation.HITBOX_OFFSET_X;
+                boolean overlaps = hitX < porkyX + Simulation.HITBOX_WIDTH
+                    && hitX + Simulation.OBSTACLE_HITBOX_WIDTH > porkyX;
+                if (overlaps && overlapFrom[i] < 0) overlapFrom[i] = step;
+                if (!overlaps && overlapFrom[i] >= 0) {
+                    overlapTo[i] = step - 1;
+                    break;
+                }
+            }
+            doubleSpacing[i] = MathUtils.ceil(Simulation.OBSTACLE_DRAW_SIZE / (speed * Simulation.FIXED_TIMESTEP));
+        }
+    }
+
+    /** Whether Porky's hitbox, with Porky at height {@code y}, is above a hay bale sitting on the ground. */
+    private static boolean clearsGroundBale(float y) {
+        float porkyY = y + Simulation.HITBOX_OFFSET_Y;
+        float baleY = (float) Simulation.OBSTACLE_START_Y + Simulation.OBSTACLE_HITBOX_OFFSET_Y;
+        return !(baleY < porkyY + Simulation.HITBOX_HEIGHT && baleY + Simulation.OBSTACLE_HITBOX_HEIGHT > porkyY);
+    }
+
+    private static float speed(int index) {
+        return MIN_SPEED + SPEED_STEP * index;
+    }
+
+    /** Upper bound on steps between a bale spawning and reaching Porky; chunks must be planned this far ahead. */
+    public int getMaxLeadSteps() {
+        return overlapFrom[0];
+    }
+
+    public Stream stream(long runSeed) {
+        return new Stream(runSeed);
+    }
+
+    /** Chunk-by-chunk plan for one run. Not thread-safe; build its chunks in order on one thread at a time. */
+    public class Stream {
+        private final long runSeed;
+        private int nextChunk = 0;
+        private int planned = 0;                                // Obstacles planned so far, i.e. the score on reaching the next
+        private int lastJump = Integer.MIN_VALUE / 2;           // Step of the last scheduled jump
+        private int lastOverlapEnd = 0;                         // Last step a planned bale overlaps Porky
+
+        Stream(long runSeed) {
+            this.runSeed = runSeed;
+        }
+
+        public Chunk next() {
+            RandomXS128 random = new RandomXS128(Seeds.derive(runSeed, nextChunk));
+            Chunk chunk = new Chunk(nextChunk++, GROUPS_PER_CHUNK * 2);
+            for (int group = 0; group < GROUPS_PER_CHUNK; group++) {
+                addGroup(chunk, random);
+            }
+            chunk.sortBySpawnStep();
+            return chunk;
+        }
+
+        private void addGroup(Chunk chunk, RandomXS128 random) {
+            float difficulty = Math.min(1f, (float) planned / FULL_DIFFICULTY_SCORE);
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                int speed = random.nextInt(1 + Math.round(difficulty * (SPEEDS - 1)));
+                boolean isDouble = random.nextFloat() < MathUtils.lerp(0.05f, 0.45f, difficulty);
+                float gap = MathUtils.lerp(150, 40, difficulty) * (0.7f + 0.6f * random.nextFloat()) + attempt * 20;
+                int arrival = Math.max(lastOverlapEnd + Math.round(gap), FIRST_SPAWN_STEP + overlapFrom[speed]);
+                if (tryPlace(chunk, arrival, speed, isDouble)) return;
+            }
+            // Fallback: one slow bale as soon as Porky can jump it; only fails if the physics cannot clear a bale at all
+            int arrival = Math.max(lastOverlapEnd + 1, lastJump + landing + 1 + clearFrom);
+            if (!tryPlace(chunk, Math.max(arrival, FIRST_SPAWN_STEP + overlapFrom[0]), 0, false)) {
+                place(chunk, arrival, 0);
+            }
+        }
+
+        /** Places the group if a jump schedule continuing from the current one clears it. */
+        private boolean tryPlace(Chunk chunk, int arrival, int speed, boolean isDouble) {
+            int length = overlapTo[speed] - overlapFrom[speed];
+            int second = arrival + doubleSpacing[speed];
+            int jump = schedule(lastJump, arrival, arrival + length);
+            if (jump == Integer.MIN_VALUE) return false;
+            if (isDouble) {
+                jump = schedule(jump, second, second + length);
+                if (jump == Integer.MIN_VALUE) return false;
+            }
+            lastJump = jump;
+            place(chunk, arrival, speed);
+            if (isDouble) place(chunk, second, speed);
+            return true;
+        }
+
+        /**
+         * Step of the jump that clears Porky through an overlap window, given the previous jump: that jump if it
+         * already covers the window, otherwise the latest new jump that does. Integer.MIN_VALUE if none can.
+         */
+        private int schedule(int previousJump, int from, int to) {
+            if (clearFrom < 0) return Integer.MIN_VALUE;
+            if (from >= previousJump + clearFrom && to <= previousJump + clearTo) return previousJump;
+            int jump = from - clearFrom;
+            if (jump <= previousJump + landing) return Integer.MIN_VALUE;  // Still in the air from the previous jump
+            if (to > jump + clearTo) return Integer.MIN_VALUE;             // Overlaps Porky longer than a jump lasts
+            return jump;
+        }
+
+        private void place(Chunk chunk, int arrival, int speed) {
+            int spawnStep = arrival - overlapFrom[speed];
+            chunk.add(spawnStep, speed(speed), arrival);
+            lastOverlapEnd = Math.max(lastOverlapEnd, spawnStep + overlapTo[speed]);
+            planned++;
+        }
+    }
+
+    /** Bales to spawn, in spawn order, as steps counted from the start of the run. */
+    public static class Chunk {
+        public final int index;
+        private int[] spawnSteps;
+        private float[] speeds;
+        private int size = 0;
+        private int lastArrival = 0;
+        int cursor = 0;                                         // Next bale to spawn, advanced by PatternSpawner
+
+        Chunk(int index, int capacity) {
+            this.index = index;
+            spawnSteps = new int[capacity];
+            speeds = new float[capacity];
+        }
+
+        void add(int spawnStep, float speed, int arrival) {
+            spawnSteps[size] = spawnStep;
+            speeds[size] = speed;
+            size++;
+            lastArrival = Math.max(lastArrival, arrival);
+        }
+
+        /** Faster bales spawn later for the same arrival, so the order can differ from the planning order. */
+        void sortBySpawnStep() {
+            for (int i = 1; i < size; i++) {
+                int step = spawnSteps[i];
+                float speed = speeds[i];
+                int j = i - 1;
+                while (j >= 0 && spawnSteps[j] > step) {
+                    spawnSteps[j + 1] = spawnSteps[j];
+                    speeds[j + 1] = speeds[j];
+                    j--;
+                }
+                spawnSteps[j + 1] = step;
+                speeds[j + 1] = speed;
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int spawnStep(int i) {
+            return spawnSteps[i];
+        }
+
+        public float speed(int i) {
+            return speeds[i];
+        }
+
+        /** Step at which the last bale of this chunk reaches Porky. */
+        public int getLastArrival() {
+            return lastArrival;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Spawns the bales a {@link PatternGenerator} plans. Chunks are pulled in before any of their bales could be due,
+ * and with an executor the next {@code PREFETCH} chunks are already being built in the background, so the render
+ * thread normally only copies a finished chunk. Without one, chunks are built on demand; either way the run is the
+ * same, because a chunk only depends on the chunks before it.
+ */
+public class PatternSpawner implements ObstacleSpawner {
+    private static final int PREFETCH = 3;
+
+    private final PatternGenerator generator;
+    private final ArrayDeque<Future<PatternGenerator.Chunk>> queued = new ArrayDeque<>();
+    private final Array<PatternGenerator.Chunk> active = new Array<>();
+    private ExecutorService executor;
+    private PatternGenerator.Stream stream;
+    private int step = 0;                                       // Steps since the run started
+    private int plannedUntil = 0;                               // Last arrival step of the chunks taken so far
+
+    public PatternSpawner(PatternGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+        prefetch();
+    }
+
+    @Override
+    public void reset(long runSeed) {
+        for (Future<PatternGenerator.Chunk> future : queued) {
+            future.cancel(false);                               // Chunks of the previous run are no longer wanted
+        }
+        queued.clear();
+        active.clear();
+        stream = generator.stream(runSeed);
+        step = 0;
+        plannedUntil = 0;
+        prefetch();
+    }
+
+    @Override
+    public void spawn(Simulation simulation) {
+        // Any bale of a chunk not taken yet reaches Porky after plannedUntil, so it cannot spawn before this step
+        while (plannedUntil <= step + generator.getMaxLeadSteps()) {
+            PatternGenerator.Chunk chunk = take();
+            active.add(chunk);
+            plannedUntil = Math.max(plannedUntil, chunk.getLastArrival());
+        }
+
+        for (int i = active.size - 1; i >= 0; i--) {
+            PatternGenerator.Chunk chunk = active.get(i);
+            while (chunk.cursor < chunk.size() && chunk.spawnStep(chunk.cursor) <= step) {
+                simulation.addObstacle(Simulation.OBSTACLE_START_X, Simulation.OBSTACLE_START_Y,
+                    chunk.speed(chunk.cursor), HitType.OBSTACLE);
+                chunk.cursor++;
+            }
+            if (chunk.cursor == chunk.size()) active.removeIndex(i);
+        }
+        step++;
+    }
+
+    private PatternGenerator.Chunk take() {
+        Future<PatternGenerator.Chunk> future = queued.poll();
+        PatternGenerator.Chunk chunk;
+        if (future == null) {
+            chunk = stream.next();                              // Nothing prefetched, so build it right here
+        } else {
+            try {
+                chunk = future.get();                           // Usually long done; otherwise at most one chunk's work
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GdxRuntimeException("Interrupted while waiting for an obstacle chunk", e);
+            } catch (ExecutionException e) {
+                throw new GdxRuntimeException("Could not generate an obstacle chunk", e.getCause());
+            }
+        }
+        prefetch();
+        return chunk;
+    }
+
+    private void prefetch() {
+        if (executor == null || executor.isShutdown()) return;
+        PatternGenerator.Stream current = stream;
+        while (queued.size() < PREFETCH) {
+            // The executor runs one task at a time in order, so the stream is never used by two threads at once
+            queued.add(CompletableFuture.supplyAsync(current::next, executor));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.StringBuilder;
+
+/**
+ * On-screen readout of {@link FrameStats}. The text is rebuilt a few times per second into a reused builder and
+ * layout, so a visible overlay costs one font draw per frame and no garbage in between refreshes.
+ */
+public class PerfOverlay {
+    private static final float REFRESH_INTERVAL = 0.25f;
+
+    private final FrameStats stats;
+    private final BitmapFont font;
+    private final GlyphLayout layout = new GlyphLayout();
+    private final StringBuilder text = new StringBuilder(256);
+    private boolean visible = false;
+    private float sinceRefresh = REFRESH_INTERVAL;
+
+    public PerfOverlay(FrameStats stats, BitmapFont font) {
+        this.stats = stats;
+        this.font = font;
+        font.setColor(Color.WHITE);
+    }
+
+    public void toggle() {
+        visible = !visible;
+        sinceRefresh = REFRESH_INTERVAL;                        // Show fresh numbers right away
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public void draw(Batch batch, float delta, float x, float y) {
+        if (!visible || stats.getFrameCount() == 0) return;
+        sinceRefresh += delta;
+        if (sinceRefresh >= REFRESH_INTERVAL) {
+            sinceRefresh = 0;
+            refresh();
+        }
+        font.draw(batch, layout, x, y);
+    }
+
+    private void refresh() {
+        int row = stats.latestRow();
+        text.clear();
+        text.append("frame ");
+        appendMillis(stats.intervalMillis(row));
+        text.append("  work ");
+        appendMillis(stats.workMillis(row));
+        text.append("\np50 ");
+        appendMillis(stats.percentileMillis(50));
+        text.append("  p99 ");
+        appendMillis(stats.percentileMillis(99));
+        text.append("  max ");
+        appendMillis(stats.maxMillis());
+        text.append("\nsteps ").append(stats.steps(row)).append("  flushes ").append(stats.batchFlushes(row))
+            .append("  draws ");
+        appendCount(stats.drawCalls(row));
+        text.append("  binds ");
+        appendCount(stats.textureBindings(row));
+        text.append("\ngc ").append(stats.gcMillis(row)).append(" ms  dropped ");
+        appendMillis(stats.droppedMillis(row));
+        if (stats.getInputLatencyCount() > 0) {
+            text.append("\njump p50 ");
+            appendMillis(stats.inputLatencyPercentileMillis(50));
+            text.append("  max ");
+            appendMillis(stats.maxInputLatencyMillis());
+        }
+        layout.setText(font, text);
+    }
+
+    /** Appends a profiler count, or "-" for a frame the profiler was off. */
+    private void appendCount(int count) {
+        if (count < 0) {
+            text.append('-');
+        } else {
+            text.append(count);
+        }
+    }
+
+    /** Appends e.g. "16.67 ms" without going through Float.toString. */
+    private void appendMillis(float millis) {
+        int hundredths = Math.round(millis * 100);
+        text.append(hundredths / 100).append('.').append(hundredths % 100, 2, '0').append(" ms");
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.viewport.StretchViewport;
+
+/**
+ * The rendering objects every screen borrows from {@link Main}: one sprite batch, one shape renderer and one
+ * viewport, so the batch shader is compiled once per session and switching screens creates no GL objects.
+ * Framebuffers come from a pool keyed by size; a screen frees the ones it obtained and only {@link #dispose()}
+ * releases them. Screens must leave the batch's projection as they found it once they are done drawing off screen.
+ */
+public class RenderContext implements Disposable {
+    public static final float WORLD_WIDTH = 800;
+    public static final float WORLD_HEIGHT = 500;
+
+    private final SpriteBatch batch = new SpriteBatch();
+    private final ShapeRenderer shapes = new ShapeRenderer();
+    private final StretchViewport viewport = new StretchViewport(WORLD_WIDTH, WORLD_HEIGHT);
+    private final BitmapFont debugFont = new BitmapFont();     // libGDX's built-in 15px font
+    private final Assets assets;
+    private final ObjectMap<AssetDescriptor<BitmapFont>, BitmapFont> fonts = new ObjectMap<>();
+    private final Array<FrameBuffer> freeFrameBuffers = new Array<>(false, 8);
+    private final Array<FrameBuffer> allFrameBuffers = new Array<>(false, 8);
+
+    public RenderContext(Assets assets) {
+        this.assets = assets;
+    }
+
+    public SpriteBatch getBatch() {
+        return batch;
+    }
+
+    public ShapeRenderer getShapes() {
+        return shapes;
+    }
+
+    public StretchViewport getViewport() {
+        return viewport;
+    }
+
+    /** Applies the viewport and points the batch and shape renderer at its camera. */
+    public void apply() {
+        viewport.apply();
+        batch.setProjectionMatrix(viewport.getCamera().combined);
+        shapes.setProjectionMatrix(viewport.getCamera().combined);
+    }
+
+    public void resize(int width, int height) {
+        viewport.update(width, height);
+    }
+
+    public BitmapFont getDebugFont() {
+        return debugFont;
+    }
+
+    /** A loaded font, looked up in the asset manager only the first time it is asked for. */
+    public BitmapFont getFont(AssetDescriptor<BitmapFont> descriptor) {
+        BitmapFont font = fonts.get(descriptor);
+        if (font == null) {
+            font = assets.get(descriptor);
+            fonts.put(descriptor, font);
+        }
+        return font;
+    }
+
+    /** An RGBA framebuffer of exactly this size, reused from an earlier {@link #free} when there is one. */
+    public FrameBuffer obtainFrameBuffer(int width, int height) {
+        for (int i = 0; i < freeFrameBuffers.size; i++) {
+            FrameBuffer frameBuffer = freeFrameBuffers.get(i);
+            if (frameBuffer.getWidth() == width && frameBuffer.getHeight() == height) {
+                return freeFrameBuffers.removeIndex(i);
+            }
+        }
+        FrameBuffer frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+        allFrameBuffers.add(frameBuffer);
+        return frameBuffer;
+    }
+
+    /** Returns a framebuffer to the pool; its contents are undefined the next time it is obtained. */
+    public void free(FrameBuffer frameBuffer) {
+        freeFrameBuffers.add(frameBuffer);
+    }
+
+    @Override
+    public void dispose() {
+        for (FrameBuffer frameBuffer : allFrameBuffers) {
+            frameBuffer.dispose();
+        }
+        allFrameBuffers.clear();
+        freeFrameBuffers.clear();
+        fonts.clear();
+        debugFont.dispose();
+        shapes.dispose();
+        batch.dispose();
+    }
+}
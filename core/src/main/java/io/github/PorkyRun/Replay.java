@@ -0,0 +1,67 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Plays an {@link InputLog} back into a fresh {@link Simulation} built from the log's seed and config. Because
+ * the simulation only depends on those and on the presses, the replay reaches the exact same state, tick for tick.
+ * <p>
+ * {@link GameScreen} steps a replay on its normal clock to watch it; {@link #runHeadless(InputLog)} and
+ * {@link #main(String[])} step it as fast as possible, e.g. to check a physics change in CI:
+ * {@code Replay replays/last.porky expect=1a2b3c4d5e6f7a8b}.
+ */
+public class Replay {
+    private final InputLog log;
+    private final Simulation simulation;
+    private int nextEvent = 0;
+
+    public Replay(InputLog log) {
+        this.log = log;
+        simulation = new Simulation(log.getConfig(), log.getSeed());
+    }
+
+    public Simulation getSimulation() {
+        return simulation;
+    }
+
+    public boolean isFinished() {
+        return simulation.getTick() >= log.getEndTick();
+    }
+
+    /** Applies the presses recorded for the current tick, then advances the simulation by one step. */
+    public void step() {
+        while (nextEvent < log.size() && log.tick(nextEvent) == simulation.getTick()) {
+            simulation.press(log.buttons(nextEvent));
+            nextEvent++;
+        }
+        simulation.step();
+    }
+
+    /** Replays the whole log without rendering and returns the simulation in its final state. */
+    public static Simulation runHeadless(InputLog log) {
+        Replay replay = new Replay(log);
+        while (!replay.isFinished()) {
+            replay.step();
+        }
+        return replay.getSimulation();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) throw new IllegalArgumentException("Usage: Replay <file> [expect=<hex state hash>]");
+        InputLog log = InputLog.load(new FileHandle(new File(args[0])));
+        long start = System.nanoTime();
+        Simulation simulation = runHeadless(log);
+        long nanos = System.nanoTime() - start;
+
+        String hash = String.format("%016x", simulation.stateHash());
+        System.out.printf("seed=%d events=%d ticks=%d score=%d gameOver=%b hash=%s (%.1f ms)%n", log.getSeed(),
+            log.size(), simulation.getTick(), simulation.getScore(), simulation.isGameOver(), hash, nanos / 1e6);
+        if (args.length > 1 && args[1].startsWith("expect=") && !args[1].substring(7).equalsIgnoreCase(hash)) {
+            System.err.println("State hash mismatch: expected " + args[1].substring(7) + " but got " + hash);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Every finished run, kept on disk. Runs are appended to a memory-mapped log of fixed-size records, each ending in a
+ * CRC, so a crash mid-write costs at most that one record: reading stops at the first record that does not check
+ * out. Every {@link #COMPACT_EVERY} runs the log is folded into a small index holding the {@link #TOP_RUNS} best
+ * runs and the session totals, and then starts over.
+ * <p>
+ * All file work happens on one background thread, so {@link #record(Run)} never blocks the caller. Readers get the
+ * latest {@link Leaderboard}, an immutable snapshot that is replaced after each write.
+ * <p>
+ * Log records are CRC'd together with the log's generation, which compaction bumps after the new index is in place.
+ * Records left over from before a compaction therefore fail their check, and a crash between writing the index and
+ * resetting the log cannot count a run twice. An index that can't be read is started over from the log alone, so the
+ * store keeps working at the cost of the runs folded in before it.
+ */
+public class RunStore implements Disposable {
+    public static final int TOP_RUNS = 10;
+    public static final int COMPACT_EVERY = 64;                 // Runs appended before the log is folded into the index
+    static final String LOG_FILE = "runs.log";
+    static final String INDEX_FILE = "top.idx";
+
+    private static final int LOG_MAGIC = 0x504B524C;            // "PKRL"
+    private static final int INDEX_MAGIC = 0x504B5249;          // "PKRI"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;                 // Magic, version, generation
+    private static final int RECORD_BYTES = 32;                 // Run, then the CRC
+    private static final int RUN_BYTES = 28;
+    /** The log never holds more than COMPACT_EVERY records, so it is mapped once at full size and never remapped. */
+    private static final int LOG_BYTES = HEADER_BYTES + COMPACT_EVERY * RECORD_BYTES;
+
+    private final File directory;
+    private final ExecutorService writer;
+    private volatile Leaderboard leaderboard = Leaderboard.EMPTY;
+
+    // Only touched on the writer thread
+    private final CRC32 crc = new CRC32();
+    private final ByteBuffer scratch = ByteBuffer.allocate(RECORD_BYTES);
+    private FileChannel channel;
+    private MappedByteBuffer log;
+    private Leaderboard indexed = Leaderboard.EMPTY;            // What the index file holds
+    private final List<Run> logged = new ArrayList<>();         // Runs in the log since the last compaction
+
+    public enum Cause {
+        OBSTACLE,                                               // Ran into a bale
+        QUIT                                                    // Left for the menu mid-run
+    }
+
+    /** One run, as stored. */
+    public static final class Run {
+        public final long seed;
+        public final long timeMillis;                           // Wall clock when the run ended
+        public final int score;
+        public final int ticks;                                 // Fixed steps the run lasted
+        public final int pickups;
+        public final Cause cause;
+
+        public Run(long seed, long timeMillis, int score, int ticks, int pickups, Cause cause) {
+            this.seed = seed;
+            this.timeMillis = timeMillis;
+            this.score = score;
+            this.ticks = ticks;
+            this.pickups = pickups;
+            this.cause = cause;
+        }
+
+        public float getSeconds() {
+            return ticks * Simulation.FIXED_TIMESTEP;
+        }
+
+        void write(ByteBuffer buffer) {
+            buffer.putLong(seed).putLong(timeMillis).putInt(score).putInt(ticks);
+            buffer.putShort((short) Math.min(pickups, Short.MAX_VALUE)).put((byte) cause.ordinal()).put((byte) 0);
+        }
+
+        static Run read(ByteBuffer buffer) {
+            long seed = buffer.getLong();
+            long timeMillis = buffer.getLong();
+            int score = buffer.getInt();
+            int ticks = buffer.getInt();
+            int pickups = buffer.getShort();
+            int cause = buffer.get();
+            buffer.get();
+            if (cause < 0 || cause >= Cause.values().length) return null;
+            return new Run(seed, timeMillis, score, ticks, pickups, Cause.values()[cause]);
+        }
+    }
+
+    /** The best runs, highest score first, and totals over every run ever stored. Immutable. */
+    public static final class Leaderboard {
+        static final Leaderboard EMPTY = new Leaderboard(0, new Run[0], 0, 0, 0);
+
+        final long generation;
+        private final Run[] top;
+        public final long runs;
+        public final long ticks;
+        public final long pickups;
+
+        Leaderboard(long generation, Run[] top, long runs, long ticks, long pickups) {
+            this.generation = generation;
+            this.top = top;
+            this.runs = runs;
+            this.ticks = ticks;
+            this.pickups = pickups;
+        }
+
+        public int size() {
+            return top.length;
+        }
+
+        public Run get(int rank) {
+            return top[rank];
+        }
+
+        public int getBestScore() {
+            return top.length == 0 ? 0 : top[0].score;
+        }
+
+        /** This board with the given runs added, at the given generation. */
+        Leaderboard with(List<Run> added, long generation) {
+            Run[] all = Arrays.copyOf(top, top.length + added.size());
+            long totalTicks = ticks;
+            long totalPickups = pickups;
+            for (int i = 0; i < added.size(); i++) {
+                Run run = added.get(i);
+                all[top.length + i] = run;
+                totalTicks += run.ticks;
+                totalPickups += run.pickups;
+            }
+            // Stable, so of equal scores the earlier run keeps the higher rank
+            Arrays.sort(all, (a, b) -> Integer.compare(b.score, a.score));
+            return new Leaderboard(generation, Arrays.copyOf(all, Math.min(all.length, TOP_RUNS)),
+                runs + added.size(), totalTicks, totalPickups);
+        }
+    }
+
+    /** Opens, or creates, the store in {@code directory}; the files are read on the writer thread. */
+    public RunStore(File directory) {
+        this.directory = directory;
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "run-store");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.execute(this::open);
+    }
+
+    /** Queues a finished run to be written; returns at once. */
+    public void record(Run run) {
+        writer.execute(() -> {
+            if (log == null) return;                            // Could not be opened; the error was reported
+            try {
+                append(run);
+                if (logged.size() >= COMPACT_EVERY) compact();
+            } catch (IOException e) {
+                error("Could not write a run to " + directory, e);
+            }
+        });
+    }
+
+    /** The latest snapshot; empty until the store has been read. */
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
+    }
+
+    /** Waits for every queued write, then closes the files. */
+    @Override
+    public void dispose() {
+        writer.execute(this::close);
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void open() {
+        try {
+            directory.mkdirs();
+            File indexFile = new File(directory, INDEX_FILE);
+            boolean indexLost = false;
+            try {
+                indexed = readIndex(indexFile);
+            } catch (IOException e) {
+                error("Could not read " + indexFile + ", rebuilding it from the log", e);
+                indexLost = true;
+            }
+            channel = FileChannel.open(new File(directory, LOG_FILE).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            log = channel.map(FileChannel.MapMode.READ_WRITE, 0, LOG_BYTES);
+            boolean logIsOurs = log.getInt(0) == LOG_MAGIC && log.getInt(4) == VERSION;
+            if (indexLost) {
+                // Runs folded in before the last compaction went with the index; the log's runs since then still count
+                indexed = new Leaderboard(logIsOurs ? log.getLong(8) : 0, new Run[0], 0, 0, 0);
+                writeIndex(indexed, indexFile);
+            }
+            if (!logIsOurs || log.getLong(8) != indexed.generation) {
+                resetLog(indexed.generation);                   // New, foreign, or already folded into the index
+            } else {
+                readLog();
+            }
+            if (logged.size() >= COMPACT_EVERY) compact();
+            publish();
+        } catch (IOException e) {
+            error("Could not open " + directory, e);
+            close();
+        }
+    }
+
+    private void readLog() {
+        long generation = log.getLong(8);
+        for (int position = HEADER_BYTES; position + RECORD_BYTES <= log.capacity(); position += RECORD_BYTES) {
+            ByteBuffer record = log.duplicate();
+            record.position(position).limit(position + RECORD_BYTES);
+            if (record.getInt(position + RUN_BYTES) != checksum(generation, record, position)) break;  // End or torn
+            Run run = Run.read(record);
+            if (run == null) break;
+            logged.add(run);
+        }
+    }
+
+    /** Only called with room left: compaction empties the log as soon as it holds COMPACT_EVERY runs. */
+    private void append(Run run) {
+        int position = HEADER_BYTES + logged.size() * RECORD_BYTES;
+        scratch.clear();
+        run.write(scratch);
+        scratch.flip();
+        log.position(position);
+        log.put(scratch);
+        log.putInt(position + RUN_BYTES, checksum(log.getLong(8), log, position));  // CRC last, so it seals the record
+        log.force();
+        logged.add(run);
+        publish();
+    }
+
+    /** Folds the log into a new index, then empties the log by moving it on to the index's generation. */
+    private void compact() throws IOException {
+        Leaderboard merged = indexed.with(logged, indexed.generation + 1);
+        writeIndex(merged, new File(directory, INDEX_FILE));
+        indexed = merged;
+        logged.clear();
+        resetLog(merged.generation);
+        publish();
+    }
+
+    private void resetLog(long generation) {
+        log.putInt(0, LOG_MAGIC).putInt(4, VERSION).putLong(8, generation);
+        log.force();
+        logged.clear();
+    }
+
+    private void publish() {
+        leaderboard = logged.isEmpty() ? indexed : indexed.with(logged, indexed.generation);
+    }
+
+    private int checksum(long generation, ByteBuffer buffer, int position) {
+        crc.reset();
+        for (int shift = 56; shift >= 0; shift -= 8) crc.update((int) (generation >>> shift));
+        ByteBuffer run = buffer.duplicate();
+        run.position(position).limit(position + RUN_BYTES);
+        crc.update(run);
+        return (int) crc.getValue();
+    }
+
+    private static void error(String message, Exception e) {
+        if (Gdx.app != null) {
+            Gdx.app.error("RunStore", message, e);
+        } else {
+            System.err.println("RunStore: " + message + ": " + e);  // Headless tools and tests
+        }
+    }
+
+    private void close() {
+        log = null;                                             // Unmapped once collected; there is no API to do it now
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+            channel = null;
+        }
+    }
+
+    /** Writes to a temporary file and moves it over the old index, so a crash leaves one or the other intact. */
+    private void writeIndex(Leaderboard board, File file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(48 + board.size() * RUN_BYTES + 4);
+        buffer.putInt(INDEX_MAGIC).putInt(VERSION).putLong(board.generation);
+        buffer.putLong(board.runs).putLong(board.ticks).putLong(board.pickups);
+        buffer.putInt(board.size()).putInt(0);
+        for (int i = 0; i < board.size(); i++) board.get(i).write(buffer);
+        crc.reset();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+
+        Path temporary = new File(directory, INDEX_FILE + ".tmp").toPath();
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) out.write(buffer);
+            out.force(true);
+        }
+        Files.move(temporary, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Leaderboard readIndex(File file) throws IOException {
+        if (!file.exists()) return Leaderboard.EMPTY;
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        if (buffer.remaining() < 52 || buffer.getInt() != INDEX_MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("Not a run index: " + file);
+        }
+        crc.reset();
+        crc.update(buffer.array(), 0, buffer.limit() - 4);
+        if (buffer.getInt(buffer.limit() - 4) != (int) crc.getValue()) throw new IOException("Corrupt run index: " + file);
+        long generation = buffer.getLong();
+        long runs = buffer.getLong();
+        long ticks = buffer.getLong();
+        long pickups = buffer.getLong();
+        int size = buffer.getInt();
+        if (size < 0 || size > TOP_RUNS || buffer.limit() != 48 + size * RUN_BYTES + 4) {
+            throw new IOException("Corrupt run index: " + file);
+        }
+        Run[] top = new Run[size];
+        buffer.getInt();
+        for (int i = 0; i < top.length; i++) {
+            top[i] = Run.read(buffer);
+            if (top[i] == null) throw new IOException("Corrupt run index: " + file);
+        }
+        return new Leaderboard(generation, top, runs, ticks, pickups);
+    }
+}
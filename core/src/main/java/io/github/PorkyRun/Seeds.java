@@ -0,0 +1,15 @@
+package io.github.PorkyRun;
+
+/** Deterministic seed derivation, shared by the simulation, the spawners and the headless batch tools. */
+public final class Seeds {
+    private Seeds() {
+    }
+
+    /** Spreads consecutive indices under one base seed over well-mixed seeds (SplitMix64 finalizer). */
+    public static long derive(long baseSeed, int index) {
+        long z = baseSeed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,315 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Headless Porky Run game state and fixed-step rules. Has no GL, texture or font dependencies, so it can be
+ * stepped from tests, servers and bots as well as from {@link GameScreen}, which only reads its state to draw.
+ */
+public class Simulation {
+    public static final float FIXED_TIMESTEP = 1 / 60f;        // Set to 60 updates per second
+    public static final float PORKY_WIDTH = 170;
+    public static final float PORKY_HEIGHT = 170;
+    public static final float GROUND = 63;
+    public static final float OBSTACLE_WIDTH = 500 / 7f;        // Hay bale texture width scaled down
+    public static final float OBSTACLE_DRAW_SIZE = 120;         // Size the hay bale is drawn at
+
+    public static final int OBSTACLE_START_X = 800;
+    public static final int OBSTACLE_START_Y = 80;
+    public static final float OBSTACLE_SPEED = 400;             // Default speed at which obstacles move
+
+    // Hitbox geometry, shared with PatternGenerator so it can prove patterns clearable
+    static final int HITBOX_OFFSET_X = 50;
+    static final int HITBOX_OFFSET_Y = 70;
+    static final int HITBOX_WIDTH = 60;
+    static final int HITBOX_HEIGHT = 50;
+    static final int OBSTACLE_HITBOX_OFFSET_X = 30;
+    static final int OBSTACLE_HITBOX_OFFSET_Y = 30;
+    static final int OBSTACLE_HITBOX_WIDTH = 70;
+    static final int OBSTACLE_HITBOX_HEIGHT = 60;
+    private static final int NO_COYOTE = Integer.MAX_VALUE;
+
+    private final SimulationConfig config;
+    private final EntityStore obstacles = new EntityStore(16);  // Kind is the HitType ordinal
+    private final SweepBroadphase broadphase = new SweepBroadphase(obstacles);
+    private final Rectangle porkyHitbox;
+    private final ObstacleSpawner spawner;
+    private final long seed;
+    private InputLog inputLog;                                  // Records presses while set
+
+    private boolean restartBuffered = false;
+    private boolean jumpBuffered = false;
+    private int jumpBufferAge = 0;                              // Steps the buffered jump has waited
+    private int airTicks = 0;                                   // Steps since Porky last stood on the ground
+    private int jumpTick = -1;                                  // Tick of the last step that launched a jump
+    private boolean isGameOver = false;
+    private boolean isOnGround = true;
+    private float velocity = 0;
+    private float porkyY = 0;                                   // Y-position for Porky
+    private float previousPorkyY = 0;                           // Y-position before the last step, for interpolation
+    private float porkyX = 0;                                   // X-Position for Porky
+    private int score = 0;
+    private int pickups = 0;                                    // Pickups collected this run
+    private int tick = 0;                                       // Steps taken since the simulation was created
+    private int run = 0;                                        // Restarts since the simulation was created
+    private int runStartTick = 0;                               // Tick the current run started at
+
+    public Simulation() {
+        this(new SimulationConfig(), 0);
+    }
+
+    /**
+     * Everything random in a session derives from {@code seed}, so the seed plus an {@link InputLog} reproduces it.
+     * The config is copied, so changing it afterwards does not affect this simulation.
+     */
+    public Simulation(SimulationConfig config, long seed) {
+        this.config = new SimulationConfig(config);
+        this.seed = seed;
+        porkyHitbox = new Rectangle(porkyX, porkyY, PORKY_WIDTH, PORKY_HEIGHT);
+        spawner = ObstacleSpawner.create(this.config);
+        spawner.reset(getRunSeed());
+    }
+
+    /**
+     * Buffers a jump; it is consumed by the next step in which Porky can jump, or dropped once it has waited longer
+     * than {@link SimulationConfig#jumpBufferTicks}.
+     */
+    public void pressJump() {
+        press(InputLog.JUMP);
+    }
+
+    /** Buffers a restart; it is consumed by the next step after the game is over. */
+    public void pressRestart() {
+        press(InputLog.RESTART);
+    }
+
+    /** Buffers the given {@link InputLog} button bits for the next step, recording them if a log is attached. */
+    public void press(int buttons) {
+        if ((buttons & InputLog.JUMP) != 0) {
+            jumpBuffered = true;
+            jumpBufferAge = 0;
+        }
+        if ((buttons & InputLog.RESTART) != 0) restartBuffered = true;
+        if (inputLog != null) inputLog.add(tick, buttons);
+    }
+
+    /** Lets the obstacle spawner precompute ahead on a single-threaded executor; results are the same without it. */
+    public void setBackgroundExecutor(ExecutorService executor) {
+        spawner.setExecutor(executor);
+    }
+
+    /** Starts recording every press into a new log for this simulation's seed and config. */
+    public InputLog startRecording() {
+        inputLog = new InputLog(seed, config);
+        inputLog.setEndTick(tick);
+        return inputLog;
+    }
+
+    /** Advances the game by one {@link #FIXED_TIMESTEP}. */
+    public void step() {
+        tick++;
+        if (inputLog != null) inputLog.setEndTick(tick);
+        if (!isGameOver) {                                      // Only update game if not over
+            logic();
+        } else if (restartBuffered) {
+            restart();                                          // Restart if 'R' is pressed
+        }
+    }
+
+    private void logic() {
+        previousPorkyY = porkyY;
+
+        // Handle jump input
+        if (jumpBuffered && (isOnGround || config.coyoteTicks > 0 && airTicks <= config.coyoteTicks)) {
+            velocity = config.jumpVelocity;                     // Set an upward velocity for the jump
+            isOnGround = false;                                 // Porky is no longer on the ground
+            airTicks = NO_COYOTE;                               // No second jump from coyote time
+            jumpTick = tick;
+            jumpBuffered = false;                               // Consume the jump input
+        } else if (jumpBuffered && config.jumpBufferTicks >= 0 && ++jumpBufferAge > config.jumpBufferTicks) {
+            jumpBuffered = false;                               // Pressed too early to count
+        }
+
+        // Apply gravity and update Porky's position
+        velocity += config.gravity * FIXED_TIMESTEP;            // Apply gravity to the velocity
+        porkyY += velocity * FIXED_TIMESTEP;                    // Update Porky's Y position
+
+        // Check if Porky has landed back on the ground
+        if (porkyY <= GROUND) {
+            porkyY = GROUND;
+            isOnGround = true;                                  // Porky is back on the ground
+            velocity = 0;                                       // Reset velocity
+        }
+        if (isOnGround) {
+            airTicks = 0;
+        } else if (airTicks != NO_COYOTE) {
+            airTicks++;
+        }
+
+        // Update Porky's hitbox position
+        porkyHitbox.setPosition(porkyX + HITBOX_OFFSET_X, porkyY + HITBOX_OFFSET_Y);
+        porkyHitbox.setSize(HITBOX_WIDTH, HITBOX_HEIGHT);
+
+        // Spawn obstacles
+        spawner.spawn(this);
+
+        // Update and remove obstacles
+        obstacles.update(FIXED_TIMESTEP);
+        score += obstacles.removeOffScreen(HitType.OBSTACLE.ordinal());
+
+        // Check for collisions
+        checkCollisions();
+    }
+
+    private void restart() {
+        run++;
+        runStartTick = tick;
+        isGameOver = false;
+        porkyX = 0;
+        porkyY = 90;            // Reset Porky to the ground position
+        previousPorkyY = porkyY;
+        velocity = 0;
+        airTicks = 0;
+        obstacles.clear();
+        score = 0;
+        pickups = 0;
+        spawner.reset(getRunSeed());
+    }
+
+    /** Places an obstacle outside the normal spawn schedule, e.g. to build dense fields for benchmarks. */
+    public void addObstacle(float x, float y) {
+        addObstacle(x, y, HitType.OBSTACLE);
+    }
+
+    public void addObstacle(float x, float y, HitType type) {
+        addObstacle(x, y, OBSTACLE_SPEED, type);
+    }
+
+    public void addObstacle(float x, float y, float speed, HitType type) {
+        int index = obstacles.add(x, y, OBSTACLE_WIDTH, speed, 0, type.ordinal());
+        obstacles.setHitbox(index, OBSTACLE_HITBOX_OFFSET_X, OBSTACLE_HITBOX_OFFSET_Y,
+            OBSTACLE_HITBOX_WIDTH, OBSTACLE_HITBOX_HEIGHT);
+    }
+
+    /**
+     * Tests Porky's hitbox against the obstacles the broadphase finds near it. Pickups it touches are collected;
+     * the first obstacle it touches ends the game. Returns the most severe hit.
+     */
+    public HitType checkCollisions() {
+        HitType hit = HitType.NONE;
+        for (int i = broadphase.firstOverlap(porkyHitbox); i >= 0; i = broadphase.firstOverlap(porkyHitbox)) {
+            if (obstacles.getKind(i) == HitType.OBSTACLE.ordinal()) {
+                isGameOver = true;
+                restartBuffered = false;
+                return HitType.OBSTACLE;
+            }
+            obstacles.remove(i);                                // Collected
+            pickups++;
+            hit = HitType.PICKUP;
+        }
+        return hit;
+    }
+
+    /** Live obstacles and pickups, in no particular order; their kind is a {@link HitType} ordinal. */
+    public EntityStore getObstacles() {
+        return obstacles;
+    }
+
+    public Rectangle getPorkyHitbox() {
+        return porkyHitbox;
+    }
+
+    public boolean isGameOver() {
+        return isGameOver;
+    }
+
+    public boolean isOnGround() {
+        return isOnGround;
+    }
+
+    public float getVelocity() {
+        return velocity;
+    }
+
+    public float getPorkyX() {
+        return porkyX;
+    }
+
+    public float getPorkyY() {
+        return porkyY;
+    }
+
+    /** Porky's Y blended between the previous and current step; {@code alpha} 0 is the previous step. */
+    public float getPorkyY(float alpha) {
+        return previousPorkyY + (porkyY - previousPorkyY) * alpha;
+    }
+
+    /** Tick of the last step that launched a jump, or -1 before the first. */
+    public int getJumpTick() {
+        return jumpTick;
+    }
+
+    /** Steps since the current run started; it keeps counting after game over. */
+    public int getRunTicks() {
+        return tick - runStartTick;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Seed for the current run; a restart moves on to the next one deterministically. */
+    public long getRunSeed() {
+        return Seeds.derive(seed, run);
+    }
+
+    public SimulationConfig getConfig() {
+        return new SimulationConfig(config);
+    }
+
+    /**
+     * Hash of every value that affects the rest of the session. Two simulations with equal hashes at the same tick
+     * will stay identical given the same inputs; replays compare these to prove they are bit-for-bit.
+     */
+    public long stateHash() {
+        long hash = 0xCBF29CE484222325L;
+        hash = mix(hash, tick);
+        hash = mix(hash, run);
+        hash = mix(hash, Float.floatToIntBits(porkyY));
+        hash = mix(hash, Float.floatToIntBits(velocity));
+        hash = mix(hash, (isOnGround ? 1 : 0) | (isGameOver ? 2 : 0) | (jumpBuffered ? 4 : 0) | (restartBuffered ? 8 : 0));
+        hash = mix(hash, jumpBufferAge);
+        hash = mix(hash, airTicks);
+        hash = mix(hash, score);
+        hash = mix(hash, pickups);
+        for (int i = 0; i < obstacles.size(); i++) {
+            hash = mix(hash, Float.floatToIntBits(obstacles.getX(i)));
+            hash = mix(hash, Float.floatToIntBits(obstacles.getY(i)));
+            hash = mix(hash, obstacles.getKind(i));
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * 0x100000001B3L;
+    }
+
+    /** Simulated time in seconds, advancing only as steps are taken. */
+    public float getTime() {
+        return tick * FIXED_TIMESTEP;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getPickups() {
+        return pickups;
+    }
+}
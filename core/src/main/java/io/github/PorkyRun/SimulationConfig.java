@@ -0,0 +1,51 @@
+package io.github.PorkyRun;
+
+/**
+ * Tunable physics and spawn parameters for a {@link Simulation}. Gravity, jump velocity and the spawn interval are
+ * the original game's values. Two defaults differ from it: obstacles come from {@link Spawner#PATTERNS} rather than
+ * {@link Spawner#INTERVAL}, and an early jump is buffered for {@link #jumpBufferTicks} steps instead of until Porky
+ * lands.
+ */
+public class SimulationConfig {
+    /** Downward acceleration applied to Porky every step. */
+    public float gravity = -1500f;
+    /** Upward velocity Porky gets when a jump is consumed. */
+    public float jumpVelocity = 600;
+    /** Time interval between obstacle spawns, in seconds, for {@link Spawner#INTERVAL}. */
+    public float obstacleSpawnInterval = 3f;
+    /** How obstacles enter the field. */
+    public Spawner spawner = Spawner.PATTERNS;
+    /**
+     * Steps a jump pressed while Porky cannot jump stays buffered before it is dropped. Negative keeps it until he
+     * lands, which is how logs recorded before this setting existed play back.
+     */
+    public int jumpBufferTicks = 8;
+    /**
+     * Steps after Porky leaves the ground without jumping during which a jump still launches; 0 turns it off. The
+     * field is flat, so he only leaves the ground by jumping and this never applies. It is for ledges and gaps.
+     */
+    public int coyoteTicks = 0;
+
+    public enum Spawner {
+        INTERVAL,                                               // One hay bale every obstacleSpawnInterval, as originally shipped
+        PATTERNS                                                // Seeded chunks from PatternGenerator that get harder with score
+    }
+
+    public SimulationConfig() {
+    }
+
+    public SimulationConfig(SimulationConfig config) {
+        gravity = config.gravity;
+        jumpVelocity = config.jumpVelocity;
+        obstacleSpawnInterval = config.obstacleSpawnInterval;
+        spawner = config.spawner;
+        jumpBufferTicks = config.jumpBufferTicks;
+        coyoteTicks = config.coyoteTicks;
+    }
+
+    @Override
+    public String toString() {
+        return "gravity=" + gravity + ", jumpVelocity=" + jumpVelocity + ", obstacleSpawnInterval=" + obstacleSpawnInterval
+            + ", spawner=" + spawner + ", jumpBufferTicks=" + jumpBufferTicks + ", coyoteTicks=" + coyoteTicks;
+    }
+}
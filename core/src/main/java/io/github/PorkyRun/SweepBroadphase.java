@@ -0,0 +1,78 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Sort-and-sweep broadphase over an {@link EntityStore}, keyed on hitbox x. It keeps the store's indices in
+ * ascending hitbox x and re-sorts only after the store changed. Frame to frame the order barely changes, so the
+ * insertion sort it uses is close to linear: an update only swaps the odd faster bale past a slower one, spawns on
+ * the right are already in place, and a swap-remove displaces a single index.
+ * <p>
+ * A query binary-searches to the first hitbox that can reach the box and stops at the first one that starts past
+ * its right edge; only that window goes through the narrowphase.
+ */
+public class SweepBroadphase {
+    private final EntityStore store;
+    private int[] order = new int[64];                          // Store indices, ascending hitbox x
+    private int sortedAt = -1;                                  // Store mod count the order was built for
+    private int sortedUpdate = -1;                              // Store update count the order was sorted at
+    private float maxHitboxWidth = 0;
+
+    public SweepBroadphase(EntityStore store) {
+        this.store = store;
+    }
+
+    /** Store index of the leftmost entity whose hitbox overlaps {@code box}, or -1 if none does. */
+    public int firstOverlap(Rectangle box) {
+        if (sortedAt != store.getModCount()) {
+            int size = store.size();
+            if (order.length < size) order = new int[Math.max(size, order.length * 2)];
+            for (int i = 0; i < size; i++) order[i] = i;       // Indices changed, so start over from store order
+            sort();
+        } else if (sortedUpdate != store.getUpdateCount()) {
+            sort();                                             // Same indices, possibly a few swapped places
+        }
+        int size = store.size();
+        float right = box.x + box.width;
+        for (int i = firstReaching(box.x); i < size; i++) {
+            int index = order[i];
+            if (store.getHitX(index) >= right) break;          // Everything after starts further right
+            if (store.overlaps(index, box)) return index;
+        }
+        return -1;
+    }
+
+    /** First position in {@link #order} whose hitbox could still extend past {@code x}. */
+    private int firstReaching(float x) {
+        float minStart = x - maxHitboxWidth;
+        int low = 0;
+        int high = store.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (store.getHitX(order[mid]) > minStart) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private void sort() {
+        int size = store.size();
+        maxHitboxWidth = 0;
+        for (int i = 0; i < size; i++) {
+            int index = order[i];
+            float key = store.getHitX(index);
+            int j = i - 1;
+            while (j >= 0 && store.getHitX(order[j]) > key) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = index;
+            maxHitboxWidth = Math.max(maxHitboxWidth, store.getHitWidth(index));
+        }
+        sortedAt = store.getModCount();
+        sortedUpdate = store.getUpdateCount();
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+
+/**
+ * Plays menu, game and game over without any input, then quits, so a class-data-sharing archive recorded from the
+ * run covers every class a normal session loads. Porky never jumps, so the first bale ends the game.
+ */
+class TrainingDriver {
+    /** When set, {@link Main} hands control to this driver. */
+    static final String PROPERTY = "porkyrun.training";
+    private static final int MENU_FRAMES = 30;                  // Long enough for the menu to draw and start its music
+    private static final int GAME_OVER_FRAMES = 60;             // Long enough for the game over text and hay to draw
+
+    private final Main game;
+    private int frames = 0;                                     // Frames spent on the current milestone
+
+    TrainingDriver(Main game) {
+        this.game = game;
+    }
+
+    static boolean isEnabled() {
+        return Boolean.getBoolean(PROPERTY);
+    }
+
+    void update() {
+        Screen screen = game.getScreen();
+        if (screen instanceof FirstScreen) {
+            if (++frames > MENU_FRAMES) {
+                frames = 0;
+                game.showGame();
+            }
+        } else if (screen instanceof GameScreen && ((GameScreen) screen).getSimulation().isGameOver()) {
+            if (++frames > GAME_OVER_FRAMES) {
+                Gdx.app.log("Training", "Finished menu, game and game over");
+                Gdx.app.exit();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.PorkyRun;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Bot observations and evolutionary training on the headless simulation; no backend needed. */
+public class BotTrainerTest {
+
+    @Test
+    public void observationSeesTheNearestObstacleFirst() {
+        Simulation simulation = new Simulation(new SimulationConfig(), 1);
+        simulation.step();
+        simulation.addObstacle(600, Simulation.OBSTACLE_START_Y, HitType.PICKUP);
+        simulation.addObstacle(300, Simulation.OBSTACLE_START_Y, HitType.OBSTACLE);
+        float[] observation = new float[BotEnvironment.OBSERVATION_SIZE];
+        BotEnvironment.observe(simulation, observation);
+
+        assertEquals(1, observation[2], 0);                     // On the ground
+        assertTrue(observation[3] < observation[6]);
+        assertEquals(1, observation[5], 0);                     // The bale first, then the pickup
+        assertEquals(-1, observation[8], 0);
+    }
+
+    @Test
+    public void trainingIsTheSameOnOneCoreOrMany() {
+        float[] single = train(new ForkJoinPool(1));
+        float[] parallel = train(new ForkJoinPool(4));
+        assertArrayEquals(single, parallel, 0);
+    }
+
+    private static float[] train(ForkJoinPool pool) {
+        BotTrainer trainer = new BotTrainer(new SimulationConfig(), 32, 2, 600, 0.1f, 7);
+        BotTrainer.Generation generation = null;
+        for (int i = 0; i < 3; i++) {
+            generation = trainer.evolve(pool);
+            assertTrue(generation.steps > 0);
+        }
+        pool.shutdown();
+        return generation.best;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.PorkyRun;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** The frame ring buffer and its CSV copy; no backend needed. */
+public class FrameStatsTest {
+    /** Publishes one frame whose step count is its own frame number, so a row can be matched to its frame. */
+    private static void frame(FrameStats stats) {
+        int number = (int) stats.getFrameCount();
+        stats.beginFrame();
+        stats.addSteps(number);
+        stats.endFrame(0, 0);
+    }
+
+    @Test
+    public void aCopyDropsRowsOverwrittenWhileItRan() throws IOException {
+        FrameStats stats = new FrameStats();
+        for (int i = 0; i < 100; i++) frame(stats);
+
+        // Publishes a whole buffer and one more frame as soon as the first row has been written
+        StringWriter out = new StringWriter() {
+            private int writes = 0;
+
+            @Override
+            public void write(String text) {
+                super.write(text);
+                if (++writes == 2) {
+                    for (int i = 0; i < FrameStats.CAPACITY + 1; i++) frame(stats);
+                }
+            }
+        };
+        stats.writeCsv(out);
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, lines.length);                          // Header and the row written before the overwrite
+        for (int i = 1; i < lines.length; i++) {
+            String[] columns = lines[i].split(",");
+            assertEquals(columns[0], columns[3]);
+        }
+        assertTrue(stats.getFrameCount() > FrameStats.CAPACITY);
+    }
+
+    @Test
+    public void aQuietCopyKeepsEverySafeRow() throws IOException {
+        FrameStats stats = new FrameStats();
+        for (int i = 0; i < FrameStats.CAPACITY + 10; i++) frame(stats);
+        StringWriter out = new StringWriter();
+        stats.writeCsv(out);
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(FrameStats.CAPACITY - 1, lines.length - 1);  // All but the row the next frame may be writing
+        assertEquals("11", lines[1].split(",")[0]);
+        for (int i = 1; i < lines.length; i++) {
+            String[] columns = lines[i].split(",");
+            assertEquals(columns[0], columns[3]);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.Input;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/** Boots the whole game headless and plays it through scripted key presses, one fixed step per frame. */
+public class GameScreenTest {
+    private static final int ALLOCATION_BUDGET = 64;            // Average bytes per running frame on the render thread
+
+    private HeadlessHarness harness;
+
+    @Before
+    public void setUp() {
+        harness = new HeadlessHarness();
+        harness.bootToMenu();
+    }
+
+    @After
+    public void tearDown() {
+        if (harness != null) harness.dispose();
+    }
+
+    private GameScreen startGame() {
+        harness.press(Input.Keys.ENTER);
+        harness.frame();
+        assertTrue(harness.getScreen() instanceof GameScreen);
+        return (GameScreen) harness.getScreen();
+    }
+
+    @Test
+    public void firstBaleEndsAnIdleRunAndRestartStartsOver() {
+        GameScreen game = startGame();
+        assertFalse(game.getSimulation().isGameOver());
+        assertTrue(harness.runUntil(() -> game.getSimulation().isGameOver(), 60 * 20));
+
+        harness.press(Input.Keys.R);
+        harness.frame();
+        assertFalse(game.getSimulation().isGameOver());
+        assertEquals(0, game.getSimulation().getScore());
+    }
+
+    @Test
+    public void spaceJumps() {
+        GameScreen game = startGame();
+        harness.frames(10);
+        assertTrue(game.getSimulation().isOnGround());
+
+        harness.press(Input.Keys.SPACE);
+        harness.frame();
+        assertFalse(game.getSimulation().isOnGround());
+        assertTrue(harness.runUntil(() -> game.getSimulation().isOnGround(), 120));
+    }
+
+    @Test
+    public void leavingAndReenteringTheGameCreatesNoGpuResources() {
+        GameScreen game = startGame();
+        harness.frames(30);
+        int textures = harness.getGL().getTextures();
+        int programs = harness.getGL().getPrograms();
+
+        harness.press(Input.Keys.ESCAPE);
+        harness.frame();
+        assertTrue(harness.getScreen() instanceof FirstScreen);
+        assertSame(game, startGame());
+        harness.frames(30);
+
+        assertEquals(textures, harness.getGL().getTextures());
+        assertEquals(programs, harness.getGL().getPrograms());
+    }
+
+    @Test
+    public void runningFramesStayWithinTheAllocationBudget() {
+        GameScreen game = startGame();
+        JumpPolicy policy = JumpPolicy.reactive(60, 0).create(0);
+        harness.frames(600);                                    // Warm up the JIT, pools and prefetched chunks
+        harness.press(Input.Keys.R);
+        harness.frame();
+
+        // Only count frames of a running game; a game over saves the replay, which allocates by design
+        long allocated = 0;
+        int frames = 0;
+        while (frames < 600 && !game.getSimulation().isGameOver()) {
+            Simulation simulation = game.getSimulation();
+            if (policy.shouldJump(simulation, simulation.getTick())) harness.press(Input.Keys.SPACE);
+            long before = harness.allocatedBytes();
+            harness.frame();
+            allocated += harness.allocatedBytes() - before;
+            frames++;
+        }
+        assertTrue("Only " + frames + " frames before game over", frames >= 120);
+        assertTrue(allocated + " bytes over " + frames + " frames", allocated <= (long) ALLOCATION_BUDGET * frames);
+    }
+}
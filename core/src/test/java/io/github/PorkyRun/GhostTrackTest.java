@@ -0,0 +1,49 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.files.FileHandle;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Recording a ghost track, saving it and streaming it back; no backend needed. */
+public class GhostTrackTest {
+
+    @Test
+    public void aSavedTrackPlaysBackStepForStep() throws IOException {
+        Simulation simulation = new Simulation(new SimulationConfig(), 11);
+        GhostTrack.Recorder recorder = new GhostTrack.Recorder();
+        recorder.reset(simulation.getRunSeed());
+        float[] heights = new float[600];
+        for (int i = 0; i < heights.length; i++) {
+            if (i % 70 == 10) simulation.pressJump();
+            simulation.step();
+            heights[i] = simulation.getPorkyY();
+            recorder.record(heights[i], simulation.isOnGround() ? GhostTrack.Pose.RUN : GhostTrack.Pose.JUMP);
+        }
+
+        File directory = Files.createTempDirectory("ghosts").toFile();
+        FileHandle file = new FileHandle(new File(directory, "best.ghost"));
+        try {
+            recorder.save(file, 42);
+            assertTrue("Over two bytes a step", file.length() < 25 + heights.length * 2L);
+
+            try (GhostTrack.Player player = GhostTrack.Player.open(file)) {
+                assertEquals(42, player.getScore());
+                assertEquals(simulation.getRunSeed(), player.getSeed());
+                for (float height : heights) {
+                    player.step();
+                    assertEquals(height, player.getY(1), 1 / 16f);
+                }
+                assertTrue(player.isFinished());
+            }
+        } finally {
+            file.delete();
+            directory.delete();
+        }
+    }
+}
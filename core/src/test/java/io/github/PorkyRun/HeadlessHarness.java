@@ -0,0 +1,216 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.backends.headless.mock.input.MockInput;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs {@link Main} on the headless backend with a {@link MockGL20}, one frame per {@link #frame()} call on the
+ * calling thread. Every frame lasts exactly one fixed step and key presses are scripted, so a test sees the same
+ * frames every time. The backend's own loop only runs an empty listener; it is there for files, audio and logging.
+ */
+public class HeadlessHarness {
+    public static final float FRAME_TIME = Simulation.FIXED_TIMESTEP;
+    public static final int WIDTH = 800;
+    public static final int HEIGHT = 500;
+
+    private final HeadlessApplication application;
+    private final MockGL20 gl = new MockGL20();
+    private final ScriptedInput input = new ScriptedInput();
+    private final Main main = new Main();
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public HeadlessHarness() {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = 1;                     // Nothing to do, so keep its thread asleep
+        application = new HeadlessApplication(new ApplicationAdapter() {}, configuration);
+        Gdx.graphics = new ScriptedGraphics(gl);
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+        Gdx.gl30 = null;
+        Gdx.input = input;
+        main.create();
+        main.resize(WIDTH, HEIGHT);
+    }
+
+    /** Renders one frame, then releases the keys pressed for it. */
+    public void frame() {
+        main.render();
+        input.endFrame();
+    }
+
+    public void frames(int count) {
+        for (int i = 0; i < count; i++) frame();
+    }
+
+    /** Renders frames until {@code condition} holds; returns false if it still does not after {@code maxFrames}. */
+    public boolean runUntil(BooleanSupplier condition, int maxFrames) {
+        for (int i = 0; i < maxFrames; i++) {
+            if (condition.getAsBoolean()) return true;
+            frame();
+        }
+        return condition.getAsBoolean();
+    }
+
+    /** Loads through the loading screen until the menu is up. */
+    public FirstScreen bootToMenu() {
+        if (!runUntil(() -> main.getScreen() instanceof FirstScreen, 60 * 60)) {
+            throw new AssertionError("Menu not shown after a minute of frames");
+        }
+        return (FirstScreen) main.getScreen();
+    }
+
+    /** Presses a key for the next frame only. */
+    public void press(int key) {
+        input.press(key);
+    }
+
+    public Main getMain() {
+        return main;
+    }
+
+    public Screen getScreen() {
+        return main.getScreen();
+    }
+
+    public MockGL20 getGL() {
+        return gl;
+    }
+
+    /** Bytes allocated so far by the calling thread, which is the one that renders. */
+    public long allocatedBytes() {
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+
+    public void dispose() {
+        main.dispose();
+        application.exit();
+    }
+
+    /** Fixed frame time and window size; hands out the mock GL, and whatever profiler wraps it. */
+    static class ScriptedGraphics extends MockGraphics {
+        private GL20 gl20;
+
+        ScriptedGraphics(GL20 gl20) {
+            this.gl20 = gl20;
+        }
+
+        @Override
+        public float getDeltaTime() {
+            return FRAME_TIME;
+        }
+
+        @Override
+        public float getRawDeltaTime() {
+            return FRAME_TIME;
+        }
+
+        @Override
+        public int getWidth() {
+            return WIDTH;
+        }
+
+        @Override
+        public int getHeight() {
+            return HEIGHT;
+        }
+
+        @Override
+        public int getBackBufferWidth() {
+            return WIDTH;
+        }
+
+        @Override
+        public int getBackBufferHeight() {
+            return HEIGHT;
+        }
+
+        @Override
+        public GL20 getGL20() {
+            return gl20;
+        }
+
+        @Override
+        public void setGL20(GL20 gl20) {
+            this.gl20 = gl20;
+            Gdx.gl = gl20;
+            Gdx.gl20 = gl20;
+        }
+
+        @Override
+        public GL30 getGL30() {
+            return null;
+        }
+
+        @Override
+        public boolean isGL30Available() {
+            return false;
+        }
+
+        @Override
+        public boolean supportsExtension(String extension) {
+            return "GL_ARB_framebuffer_object".equals(extension);  // Mipmaps by GL, which is a no-op, not on the CPU
+        }
+    }
+
+    /**
+     * Keys count as pressed, and just pressed, for the one frame they were pressed for. Each press is also delivered
+     * to the input processor as a key down and up, stamped with the time it was pressed.
+     */
+    static class ScriptedInput extends MockInput {
+        private final boolean[] pressed = new boolean[Input.Keys.MAX_KEYCODE + 1];
+        private InputProcessor processor;
+        private long eventTime;
+
+        void press(int key) {
+            pressed[key] = true;
+            if (processor != null) {
+                eventTime = System.nanoTime();
+                processor.keyDown(key);
+                processor.keyUp(key);
+            }
+        }
+
+        @Override
+        public void setInputProcessor(InputProcessor processor) {
+            this.processor = processor;
+        }
+
+        @Override
+        public InputProcessor getInputProcessor() {
+            return processor;
+        }
+
+        @Override
+        public long getCurrentEventTime() {
+            return eventTime;
+        }
+
+        void endFrame() {
+            Arrays.fill(pressed, false);
+        }
+
+        @Override
+        public boolean isKeyPressed(int key) {
+            return key >= 0 && key < pressed.length && pressed[key];
+        }
+
+        @Override
+        public boolean isKeyJustPressed(int key) {
+            return isKeyPressed(key);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.PorkyRun;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Placing timestamped presses on simulation ticks, and the jump buffer they feed; no backend needed. */
+public class InputQueueTest {
+    private static final long STEP_NANOS = (long) (Simulation.FIXED_TIMESTEP * 1e9);
+
+    @Test
+    public void pressesLandOnTheStepTheyHappenedIn() {
+        Simulation simulation = new Simulation(new SimulationConfig(), 5);
+        InputLog log = simulation.startRecording();
+        InputQueue queue = new InputQueue();
+        long now = 1_000_000_000L;
+        queue.add(InputLog.JUMP, now - STEP_NANOS * 3);         // During the first of three steps
+        queue.add(InputLog.RESTART, now - STEP_NANOS * 2);      // During the second
+        queue.add(InputLog.JUMP, now - STEP_NANOS / 4);         // After the last step; still goes to it
+
+        queue.schedule(simulation.getTick(), 3, 0.5f, now);
+        for (int i = 0; i < 3; i++) {
+            queue.apply(simulation);
+            simulation.step();
+        }
+        assertEquals(3, log.size());
+        assertEquals(0, log.tick(0));
+        assertEquals(1, log.tick(1));
+        assertEquals(2, log.tick(2));
+    }
+
+    @Test
+    public void pressesWaitThroughFramesWithoutSteps() {
+        Simulation simulation = new Simulation(new SimulationConfig(), 5);
+        InputLog log = simulation.startRecording();
+        InputQueue queue = new InputQueue();
+        queue.add(InputLog.JUMP, 0);
+        queue.schedule(simulation.getTick(), 0, 0.5f, STEP_NANOS);
+        queue.apply(simulation);
+        assertEquals(0, log.size());
+
+        queue.schedule(simulation.getTick(), 1, 0.2f, STEP_NANOS * 2);
+        queue.apply(simulation);
+        assertEquals(1, log.size());
+    }
+
+    @Test
+    public void earlyJumpIsDroppedUnlessBufferedUntilLanding() {
+        assertFalse(jumpsAgainAfterLanding(new SimulationConfig()));
+
+        SimulationConfig legacy = new SimulationConfig();
+        legacy.jumpBufferTicks = -1;
+        assertTrue(jumpsAgainAfterLanding(legacy));
+    }
+
+    /** Jumps, presses jump again right away while in the air, and reports whether a second jump ever launches. */
+    private static boolean jumpsAgainAfterLanding(SimulationConfig config) {
+        Simulation simulation = new Simulation(config, 9);
+        simulation.step();                                      // Settle onto the ground first
+        simulation.pressJump();
+        simulation.step();
+        int firstJump = simulation.getJumpTick();
+        simulation.pressJump();
+        for (int i = 0; i < 120 && !simulation.isGameOver(); i++) {
+            simulation.step();
+        }
+        return simulation.getJumpTick() != firstJump;
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.PorkyRun;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+
+/** The run log and leaderboard index on a temporary directory; no backend needed. */
+public class RunStoreTest {
+    private File directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("runs").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null) for (File file : files) file.delete();
+        directory.delete();
+    }
+
+    private static RunStore.Run run(int score) {
+        return new RunStore.Run(score, 0, score, score * 60, 0, RunStore.Cause.OBSTACLE);
+    }
+
+    /** Records the given scores and closes the store, which waits for the writes. */
+    private void record(int... scores) {
+        RunStore store = new RunStore(directory);
+        for (int score : scores) store.record(run(score));
+        store.dispose();
+    }
+
+    private RunStore.Leaderboard reopen() {
+        RunStore store = new RunStore(directory);
+        store.dispose();                                        // Returns once the files have been read
+        return store.getLeaderboard();
+    }
+
+    @Test
+    public void runsSurviveAReopen() {
+        record(3, 9, 5);
+        RunStore.Leaderboard leaderboard = reopen();
+        assertEquals(3, leaderboard.runs);
+        assertEquals(9, leaderboard.get(0).score);
+        assertEquals(5, leaderboard.get(1).score);
+        assertEquals(3, leaderboard.get(2).score);
+    }
+
+    @Test
+    public void compactionKeepsTheBestAndTheTotals() {
+        int[] scores = new int[RunStore.COMPACT_EVERY * 2 + 5];
+        for (int i = 0; i < scores.length; i++) scores[i] = i * 11 % scores.length;  // Each once, shuffled
+        record(scores);
+
+        RunStore.Leaderboard leaderboard = reopen();
+        assertEquals(scores.length, leaderboard.runs);
+        assertEquals(RunStore.TOP_RUNS, leaderboard.size());
+        for (int rank = 0; rank < RunStore.TOP_RUNS; rank++) {
+            assertEquals(scores.length - 1 - rank, leaderboard.get(rank).score);
+        }
+    }
+
+    @Test
+    public void aTornRecordEndsTheLog() throws IOException {
+        record(4, 8);
+        try (RandomAccessFile log = new RandomAccessFile(new File(directory, RunStore.LOG_FILE), "rw")) {
+            log.seek(16 + 32 + 10);                             // Inside the second record, as if cut off mid-write
+            log.write(0xFF);
+        }
+        RunStore.Leaderboard leaderboard = reopen();
+        assertEquals(1, leaderboard.runs);
+        assertEquals(4, leaderboard.get(0).score);
+    }
+
+    @Test
+    public void aCorruptIndexIsRebuiltFromTheLog() throws IOException {
+        int[] scores = new int[RunStore.COMPACT_EVERY + 2];    // The first COMPACT_EVERY go into the index
+        for (int i = 0; i < scores.length; i++) scores[i] = 100 + i;
+        record(scores);
+        try (RandomAccessFile index = new RandomAccessFile(new File(directory, RunStore.INDEX_FILE), "rw")) {
+            index.seek(20);
+            index.write(0xFF);
+        }
+
+        RunStore.Leaderboard leaderboard = reopen();
+        assertEquals(2, leaderboard.runs);                      // Only what the log still held
+        assertEquals(scores[scores.length - 1], leaderboard.get(0).score);
+
+        record(7);                                              // Still writable, and the new index reads back
+        leaderboard = reopen();
+        assertEquals(3, leaderboard.runs);
+        assertEquals(7, leaderboard.get(2).score);
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.PorkyRun;
+
+import com.badlogic.gdx.math.Rectangle;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** The headless simulation alone; needs neither a backend nor natives. */
+public class SimulationTest {
+
+    /** A played simulation and the log it recorded on the way. */
+    private static final class Session {
+        final Simulation simulation;
+        final InputLog log;
+
+        Session(Simulation simulation, InputLog log) {
+            this.simulation = simulation;
+            this.log = log;
+        }
+    }
+
+    /** Plays a seeded run with a reactive policy, restarting after each game over, for the given number of steps. */
+    private static Session play(long seed, int steps) {
+        Simulation simulation = new Simulation(new SimulationConfig(), seed);
+        InputLog log = simulation.startRecording();
+        JumpPolicy policy = JumpPolicy.reactive(60, 40).create(seed);
+        for (int i = 0; i < steps; i++) {
+            if (simulation.isGameOver()) {
+                simulation.pressRestart();
+            } else if (policy.shouldJump(simulation, simulation.getTick())) {
+                simulation.pressJump();
+            }
+            simulation.step();
+        }
+        return new Session(simulation, log);
+    }
+
+    @Test
+    public void sameSeedSameRun() {
+        assertEquals(play(42, 3600).simulation.stateHash(), play(42, 3600).simulation.stateHash());
+    }
+
+    @Test
+    public void replayOfASavedLogEndsInTheSameState() throws IOException {
+        Session live = play(7, 3600);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        live.log.write(bytes);
+        InputLog loaded = InputLog.read(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(live.simulation.stateHash(), Replay.runHeadless(loaded).stateHash());
+    }
+
+    @Test
+    public void idleRunEndsAtTheFirstBale() {
+        Simulation simulation = new Simulation(new SimulationConfig(), 1);
+        for (int i = 0; i < 60 * 20 && !simulation.isGameOver(); i++) {
+            simulation.step();
+        }
+        assertTrue(simulation.isGameOver());
+        assertEquals(0, simulation.getScore());
+    }
+
+    @Test
+    public void broadphaseFindsWhatALinearScanFinds() {
+        Simulation simulation = new Simulation(new SimulationConfig(), 3);
+        for (int i = 0; i < 50; i++) {
+            simulation.addObstacle(i * 37 % 700, Simulation.OBSTACLE_START_Y, 300 + i * 11 % 200, HitType.OBSTACLE);
+        }
+        EntityStore obstacles = simulation.getObstacles();
+        SweepBroadphase broadphase = new SweepBroadphase(obstacles);
+        Rectangle box = new Rectangle(0, 80, 60, 50);
+        for (int step = 0; step < 60; step++) {               // A second of overtaking, all still on screen
+            obstacles.update(Simulation.FIXED_TIMESTEP);
+            for (box.x = 0; box.x < 800; box.x += 25) {
+                int found = broadphase.firstOverlap(box);
+                boolean any = false;
+                for (int i = 0; i < obstacles.size(); i++) any |= obstacles.overlaps(i, box);
+                assertEquals(any, found >= 0);
+                if (found >= 0) assertTrue(obstacles.overlaps(found, box));
+            }
+        }
+    }
+}